@@ -0,0 +1,101 @@
+package com.kdrama.backend.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+// Hibernate second-level cache and query cache of the catalog, kept in memory by Caffeine (through JCache)
+// - Drama, Movie, Actor and their collections are cached (@Cache of the entities), as well as the queries of the
+//   repositories with the cacheable hint (e.g. DramaRepository.findByChineseName)
+// - Every region is bounded by catalog.cache.max-entries and entries expire after catalog.cache.expire-after-write
+// - Hibernate updates the regions on every change made through JPA; CatalogCache.java also evicts them on update / delete
+// - Hits and misses are published as the metric "catalog.cache.requests" (refer to CatalogCache.java)
+
+@Configuration
+public class CatalogCacheConfig {
+    public static final String DRAMA_REGION = "catalog.drama";
+    public static final String DRAMA_COLLECTION_REGION = "catalog.drama.collections";
+    public static final String MOVIE_REGION = "catalog.movie";
+    public static final String MOVIE_COLLECTION_REGION = "catalog.movie.collections";
+    public static final String ACTOR_REGION = "catalog.actor";
+    public static final String ACTOR_COLLECTION_REGION = "catalog.actor.collections";
+    public static final String QUERY_REGION = "catalog.queries";
+
+    // Last change of every table, compared with the time a query result was cached; has to outlive the query results
+    private static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    // Built by Hibernate whenever the query cache is on, even though every cached query here names QUERY_REGION
+    private static final String DEFAULT_QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    public static final List<String> DATA_REGIONS = List.of(DRAMA_REGION, DRAMA_COLLECTION_REGION,
+        MOVIE_REGION, MOVIE_COLLECTION_REGION, ACTOR_REGION, ACTOR_COLLECTION_REGION);
+
+    @Value("${catalog.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.cache.max-entries:5000}")
+    private long maxEntries;
+
+    @Value("${catalog.cache.expire-after-write:6h}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public HibernatePropertiesCustomizer catalogCacheCustomizer() {
+        if (!enabled) {
+            return properties -> {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            };
+        }
+
+        CacheManager cacheManager = createCacheManager();
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // Every region Hibernate asks for is created below, so a missing one is a mistake to be seen on start
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true); // For the hit / miss counts
+        };
+    }
+
+    private CacheManager createCacheManager() {
+        // Shared by the JVM; a new one is returned if the previous application context closed it (e.g. in the tests)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (String region : DATA_REGIONS) {
+            // A collection region holds several collections per work (e.g. the 6 of a drama)
+            long size = region.endsWith(".collections") ? maxEntries * 6 : maxEntries;
+            createCache(cacheManager, region, OptionalLong.of(size), OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        createCache(cacheManager, QUERY_REGION, OptionalLong.of(maxEntries), OptionalLong.of(expireAfterWrite.toNanos()));
+        createCache(cacheManager, DEFAULT_QUERY_REGION, OptionalLong.of(maxEntries), OptionalLong.of(expireAfterWrite.toNanos()));
+        createCache(cacheManager, TIMESTAMPS_REGION, OptionalLong.empty(), OptionalLong.empty()); // A few entries, one per table
+        return cacheManager;
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, OptionalLong maximumSize, OptionalLong expireAfterWriteNanos) {
+        if (cacheManager.getCache(region) != null) {
+            return; // e.g. the application context is created again by the tests
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,117 @@
+package com.kdrama.backend.config;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.util.DisplayNameEnumSerializer;
+
+// Shared JSON writers of the read endpoints, one with enums as display names (e.g. 男) and one with their names (e.g. MALE)
+// - Both mappers are built once from the application's ObjectMapper, so Jackson's serializer caches are kept between requests
+// - Lists are written straight to the output stream, without building a JsonNode tree first; single values (e.g. one
+//   drama or one page) are serialized before the response starts, so that a serialization error is still a 500
+// - JSON that is stored already (the read model) is written as is
+
+@Component
+public class JsonResponseWriters {
+
+    private final ObjectWriter displayNameWriter;
+    private final ObjectWriter nameWriter;
+
+    public JsonResponseWriters(ObjectMapper objectMapper) {
+        // The output stream belongs to the servlet container, which closes it
+        this.displayNameWriter = withEnumMode(objectMapper, true).writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.nameWriter = withEnumMode(objectMapper, false).writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public ObjectWriter writer(boolean displayNameMode) {
+        return displayNameMode ? displayNameWriter : nameWriter;
+    }
+
+    // 200 with the value written as JSON; 500 if a single value cannot be serialized
+    public ResponseEntity<StreamingResponseBody> ok(Object value, boolean displayNameMode) {
+        return withStatus(HttpStatus.SC_OK, value, displayNameMode);
+    }
+
+    // e.g. 202 for a job that was started
+    public ResponseEntity<StreamingResponseBody> withStatus(int status, Object value, boolean displayNameMode) {
+        ObjectWriter writer = writer(displayNameMode);
+        if (!(value instanceof Collection<?>)) {
+            byte[] json;
+            try {
+                json = writer.writeValueAsBytes(value);
+            } catch (JsonProcessingException e) {
+                System.err.println("Failed to write response: " + e.getMessage());
+                e.printStackTrace();
+                return ResponseEntity.internalServerError().build(); // 500
+            }
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(outputStream -> outputStream.write(json));
+        }
+
+        // Written while the response is sent: an error after the first bytes can only end the response early
+        StreamingResponseBody body = outputStream -> {
+            try {
+                writer.writeValue(outputStream, value);
+            } catch (Exception e) {
+                System.err.println("Failed to write response: " + e.getMessage());
+                e.printStackTrace();
+                throw e;
+            }
+        };
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 200 with JSON that was serialized before, e.g. by the read model (refer to CatalogReadModel.java)
+    public ResponseEntity<StreamingResponseBody> okRaw(String json) {
+        return okRawArray(List.of(json), false);
+    }
+
+    // 200 with the serialized elements as one JSON array
+    public ResponseEntity<StreamingResponseBody> okRawArray(List<String> jsons) {
+        return okRawArray(jsons, true);
+    }
+
+    private ResponseEntity<StreamingResponseBody> okRawArray(List<String> jsons, boolean asArray) {
+        StreamingResponseBody body = outputStream -> {
+            // Not closed, as the output stream belongs to the servlet container
+            Writer out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (asArray) {
+                out.write('[');
+            }
+            for (int i = 0; i < jsons.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(jsons.get(i));
+            }
+            if (asArray) {
+                out.write(']');
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static ObjectMapper withEnumMode(ObjectMapper objectMapper, boolean displayNameMode) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
+
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.registerModule(module);
+        return mapper;
+    }
+}
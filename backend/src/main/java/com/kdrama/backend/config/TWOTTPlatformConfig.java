@@ -1,5 +1,7 @@
 package com.kdrama.backend.config;
 
+import com.kdrama.backend.enums.ScraperBackend;
+
 public class TWOTTPlatformConfig {
     private String name;
     private String searchUrl;
@@ -8,8 +10,16 @@ public class TWOTTPlatformConfig {
     private String watchUrlPrefix;
     private String nextPageBtnSelector;
     private boolean requiresLogin;
+    private String readinessSelector; // Element that is only there once a page has loaded; null: titleElementSelector is used
+    private ScraperBackend scraperBackend = ScraperBackend.BROWSER;
+    private String pageUrlTemplate; // HTTP backend only, e.g. "https://.../list?page={page}"; null: the href of the next page button is followed
+    private boolean sortedByNewest; // The newest works are listed first, so incremental scraping can stop early
 
     public TWOTTPlatformConfig (String name, String searchUrl, String titleElementSelector, String watchUrlElementSelector, String watchUrlPrefix, String nextPageBtnSelector, boolean requiresLogin) {
+        this(name, searchUrl, titleElementSelector, watchUrlElementSelector, watchUrlPrefix, nextPageBtnSelector, requiresLogin, null);
+    }
+
+    public TWOTTPlatformConfig (String name, String searchUrl, String titleElementSelector, String watchUrlElementSelector, String watchUrlPrefix, String nextPageBtnSelector, boolean requiresLogin, String readinessSelector) {
         this.name = name;
         this.searchUrl = searchUrl;
         this.titleElementSelector = titleElementSelector;
@@ -17,6 +27,7 @@ public class TWOTTPlatformConfig {
         this.watchUrlPrefix = watchUrlPrefix;
         this.nextPageBtnSelector = nextPageBtnSelector;
         this.requiresLogin = requiresLogin;
+        this.readinessSelector = readinessSelector;
     }
 
     public String getName() {
@@ -47,6 +58,22 @@ public class TWOTTPlatformConfig {
         return requiresLogin;
     }
 
+    public String getReadinessSelector() {
+        return readinessSelector;
+    }
+
+    public ScraperBackend getScraperBackend() {
+        return scraperBackend;
+    }
+
+    public String getPageUrlTemplate() {
+        return pageUrlTemplate;
+    }
+
+    public boolean isSortedByNewest() {
+        return sortedByNewest;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
@@ -74,4 +101,20 @@ public class TWOTTPlatformConfig {
     public void setRequiresLogin(boolean requiresLogin) {
         this.requiresLogin = requiresLogin;
     }
+
+    public void setReadinessSelector(String readinessSelector) {
+        this.readinessSelector = readinessSelector;
+    }
+
+    public void setScraperBackend(ScraperBackend scraperBackend) {
+        this.scraperBackend = scraperBackend;
+    }
+
+    public void setPageUrlTemplate(String pageUrlTemplate) {
+        this.pageUrlTemplate = pageUrlTemplate;
+    }
+
+    public void setSortedByNewest(boolean sortedByNewest) {
+        this.sortedByNewest = sortedByNewest;
+    }
 }
@@ -0,0 +1,71 @@
+package com.kdrama.backend.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.unit.DataSize;
+
+import com.kdrama.backend.util.TmdbResponseCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// Configuration of the local TMDB response cache (refer to util/TmdbResponseCache.java)
+// Hit/miss counts are published as the metric "tmdb.response.cache.requests" (see /actuator/metrics)
+// The cache is pruned every 6 hours to tmdb.cache.max-size, entries older than tmdb.cache.max-age first
+
+@Configuration
+public class TmdbCacheConfig {
+    @Value("${tmdb.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tmdb.cache.dir:cache/tmdb}")
+    private String directory;
+
+    @Value("${tmdb.cache.max-size:500MB}")
+    private DataSize maxSize;
+
+    @Value("${tmdb.cache.max-age:30d}")
+    private Duration maxAge;
+
+    private final MeterRegistry meterRegistry;
+
+    public TmdbCacheConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void configureCache() {
+        TmdbResponseCache.configure(Path.of(directory), enabled);
+
+        TmdbResponseCache.Stats stats = TmdbResponseCache.getStats();
+        FunctionCounter.builder("tmdb.response.cache.requests", stats, TmdbResponseCache.Stats::getHits)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("tmdb.response.cache.requests", stats, TmdbResponseCache.Stats::getMisses)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("tmdb.response.cache.requests", stats, TmdbResponseCache.Stats::getRevalidated)
+            .tag("result", "revalidated")
+            .register(meterRegistry);
+        FunctionCounter.builder("tmdb.response.cache.stores", stats, TmdbResponseCache.Stats::getStores)
+            .register(meterRegistry);
+        FunctionCounter.builder("tmdb.response.cache.evictions", stats, TmdbResponseCache.Stats::getEvictions)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${tmdb.cache.prune-cron:0 15 0/6 * * *}")
+    public void pruneCache() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = TmdbResponseCache.prune(maxSize.toBytes(), maxAge);
+        if (deleted > 0) {
+            System.out.println("TMDB response cache pruned: " + deleted + " entries deleted");
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.kdrama.backend.controller;
 
 import java.io.File;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.hc.core5.http.HttpStatus;
@@ -16,14 +18,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.enums.ActorGender;
 import com.kdrama.backend.model.Actor;
+import com.kdrama.backend.repository.ActorRepository;
 import com.kdrama.backend.service.ActorService;
 import com.kdrama.backend.service.AiService;
-import com.kdrama.backend.util.DisplayNameEnumSerializer;
+import com.kdrama.backend.service.FilmographyEngine;
+import com.kdrama.backend.util.KeysetPagination;
 
 @RestController
 @RequestMapping("/api/actors")
@@ -31,6 +36,9 @@ public class ActorController {
     @Autowired
     private ActorService actorService;
 
+    @Autowired
+    private JsonResponseWriters jsonWriters;
+
     private final ObjectMapper objectMapper;
 
     private final AiService aiService;
@@ -79,32 +87,51 @@ public class ActorController {
         }
     }
 
+    // Without any of the paging / sorting / filter parameters: every actor as a JSON array (as before)
+    // Otherwise one page: {"items": [...], "nextCursor": "..."}; nextCursor is passed as cursor to get the next page (null on the last one)
+    // sort: chineseName, birthday or lastUpdatedByApi (id by default); order: asc / desc; size: 1-100 (24 by default)
     @GetMapping("/findAll")
-    public ResponseEntity<JsonNode> findActors(
-            @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+    public ResponseEntity<StreamingResponseBody> findActors(
+            @RequestParam(required = false, defaultValue = "true") boolean displayNameMode,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) ActorGender gender) {
+
+        if (size != null || cursor != null || sort != null || order != null || gender != null) {
+            try {
+                KeysetPagination.Request page = KeysetPagination.request(sort, order, size, cursor, "actorId", ActorService.SORT_KEYS);
+                KeysetPagination.Page<Actor> result = actorService.findActors(gender, page);
+                return jsonWriters.ok(result, displayNameMode); // {"items": [...], "nextCursor": "..."}
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid page request: " + e.getMessage());
+                return ResponseEntity.badRequest().build(); // 400
+            }
+        }
 
         List<Actor> actors = actorService.getAllActors();
         if (actors.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
+        return jsonWriters.ok(actors, displayNameMode);
+    }
 
-        try {
-            JsonNode jsonNode = mapper.valueToTree(actors);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).build();
+    // Only the fields of the list views, without the dramas / movies of every actor
+    @GetMapping("/summaries")
+    public ResponseEntity<StreamingResponseBody> findActorSummaries(
+            @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+        List<ActorRepository.SummaryView> summaries = actorService.getActorSummaries();
+        if (summaries.isEmpty()) {
+            return ResponseEntity.noContent().build(); // 204
         }
+
+        return jsonWriters.ok(summaries, displayNameMode);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JsonNode> findSelectedActor(
+    public ResponseEntity<StreamingResponseBody> findSelectedActor(
             @PathVariable Integer id,
             @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
 
@@ -115,24 +142,12 @@ public class ActorController {
 
         Actor actor = optionalActor.get();
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(actor);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(actor, displayNameMode);
     }
 
     @GetMapping("/chineseName")
-    public ResponseEntity<JsonNode> findSelectedActorByChineseName(
+    public ResponseEntity<StreamingResponseBody> findSelectedActorByChineseName(
         @RequestParam String chineseName,
         @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
         
@@ -170,26 +185,15 @@ public class ActorController {
             actor = optionalActor.get();
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(actor);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(actor, displayNameMode);
     }
 
     @PutMapping("/apiupdate/{id}")
     @com.kdrama.backend.security.RequireRole({com.kdrama.backend.enums.Role.ADMIN})
     public ResponseEntity<Actor> updateSelectedActorViaApi(@PathVariable Integer id,
-        @RequestParam boolean includesExistingWork) {
+        @RequestParam boolean includesExistingWork,
+        @RequestParam(required = false, defaultValue = "false") boolean incremental) {
         
         Optional<Actor> optionalActor = actorService.getActorById(id);
         if (optionalActor.isEmpty()) {
@@ -197,13 +201,20 @@ public class ActorController {
         }
         else {
             Actor actor = optionalActor.get();
-            Actor updatedActor = actorService.fillActorMoreInfo(actor, includesExistingWork);
+            // Outcome of every work of the filmography, reported in the response headers
+            Map<FilmographyEngine.Outcome, Integer> outcomeCounts = new EnumMap<>(FilmographyEngine.Outcome.class);
+            Actor updatedActor = actorService.fillActorMoreInfo(actor, includesExistingWork, incremental,
+                result -> outcomeCounts.merge(result.outcome(), 1, Integer::sum));
             if (updatedActor == null) {
                 return ResponseEntity.notFound().build();
             }
             else {
                 Actor savedActor = actorService.updateActor(id, updatedActor, true);
-                return ResponseEntity.ok(savedActor);
+                return ResponseEntity.ok()
+                                    .header("X-Works-New", String.valueOf(outcomeCounts.getOrDefault(FilmographyEngine.Outcome.SAVED, 0)))
+                                    .header("X-Works-Refreshed", String.valueOf(outcomeCounts.getOrDefault(FilmographyEngine.Outcome.UPDATED, 0)))
+                                    .header("X-Works-Skipped", String.valueOf(outcomeCounts.getOrDefault(FilmographyEngine.Outcome.UNCHANGED, 0)))
+                                    .body(savedActor);
             } 
         }
     }
@@ -1,21 +1,28 @@
 package com.kdrama.backend.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.KRReleaseSchedule;
 import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.repository.CatalogEntryRepository;
 import com.kdrama.backend.service.AiService;
+import com.kdrama.backend.service.CatalogReadModel;
+import com.kdrama.backend.service.DramaImportPipeline;
 import com.kdrama.backend.service.DramaService;
-import com.kdrama.backend.util.DisplayNameEnumSerializer;
+import com.kdrama.backend.util.KeysetPagination;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.hc.core5.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/dramas")
@@ -24,6 +31,15 @@ public class DramaController {
     @Autowired
     private DramaService dramaService;
 
+    @Autowired
+    private DramaImportPipeline dramaImportPipeline;
+
+    @Autowired
+    private JsonResponseWriters jsonWriters;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
     private final ObjectMapper objectMapper;
     
     private final AiService aiService;
@@ -37,74 +53,111 @@ public class DramaController {
     @com.kdrama.backend.security.RequireRole({com.kdrama.backend.enums.Role.ADMIN})
     public ResponseEntity<?> importDrama(@RequestParam String name) {
         
-        // Check if the drama already exists in database
-        Optional<Drama> optionalExistingDrama = dramaService.getDramaByChineseName(name);
-        if (optionalExistingDrama.isPresent()) {
-            // drama 已存在 → 回傳 409
-            return ResponseEntity.status(HttpStatus.SC_CONFLICT)
-                                .body("Drama already exists in database");
-        }
-        
-        Drama drama = dramaService.fillDramaBasicInfo(name);
-        if (drama == null) {
-            return ResponseEntity.notFound().build(); // 404
-        }
+        // Refer to DramaImportPipeline.java for the import stages
+        DramaImportPipeline.ImportResult result = dramaImportPipeline.importDrama(name);
 
-        // Check if the drama already exists in database
-        optionalExistingDrama = dramaService.getDramaByTmdbIdAndSeasonNumber(drama.getTmdbId(), drama.getSeasonNumber());
-        if (optionalExistingDrama.isPresent()) {
-            // drama 已存在 → 回傳 409
-            return ResponseEntity.status(HttpStatus.SC_CONFLICT)
-                                .body("Drama already exists in database");
+        switch (result.status()) {
+            case CONFLICT:
+                // drama 已存在 → 回傳 409
+                return ResponseEntity.status(HttpStatus.SC_CONFLICT)
+                                    .header("Server-Timing", toServerTiming(result.stageMillis()))
+                                    .body("Drama already exists in database");
+            case NOT_FOUND:
+                return ResponseEntity.notFound()
+                                    .header("Server-Timing", toServerTiming(result.stageMillis()))
+                                    .build(); // 404
+            default:
+                // Stage timings can be seen in the browser's developer tools (Network -> Timing)
+                return ResponseEntity.ok()
+                                    .header("Server-Timing", toServerTiming(result.stageMillis()))
+                                    .body(result.drama());
         }
-        
-        drama = dramaService.fillDramaMoreInfo(drama, null);
+    }
 
-        if (drama == null) {
-            return ResponseEntity.notFound().build();
+    // e.g. seasonNumber;dur=812, tmdbId;dur=240, tmdbFill;dur=655
+    private String toServerTiming(Map<String, Long> stageMillis) {
+        return stageMillis.entrySet().stream()
+            .map(entry -> entry.getKey() + ";dur=" + entry.getValue())
+            .collect(Collectors.joining(", "));
+    }
+
+    // Without any of the paging / sorting / filter parameters: every drama as a JSON array (as before)
+    // Otherwise one page: {"items": [...], "nextCursor": "..."}; nextCursor is passed as cursor to get the next page (null on the last one)
+    // sort: chineseName, releaseYear or lastUpdatedByApi (id by default); order: asc / desc; size: 1-100 (24 by default)
+    @GetMapping("/findAll")
+    public ResponseEntity<StreamingResponseBody> findDramas(
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String order,
+        @RequestParam(required = false) String genre,
+        @RequestParam(required = false) String network,
+        @RequestParam(required = false) DramaStatus status,
+        @RequestParam(required = false) KRReleaseSchedule krReleaseSchedule,
+        @RequestParam(required = false) String releaseYear,
+        @RequestParam(required = false) String platform) {
+
+        boolean paged = size != null || cursor != null || sort != null || order != null || genre != null || network != null
+            || status != null || krReleaseSchedule != null || releaseYear != null || platform != null;
+        if (paged) {
+            try {
+                KeysetPagination.Request page = KeysetPagination.request(sort, order, size, cursor, "dramaId", DramaService.SORT_KEYS);
+                DramaService.DramaFilter filter = new DramaService.DramaFilter(genre, network, status, krReleaseSchedule, releaseYear, platform);
+                KeysetPagination.Page<Drama> result = dramaService.findDramas(filter, page);
+                return jsonWriters.ok(result, displayNameMode); // {"items": [...], "nextCursor": "..."}
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid page request: " + e.getMessage());
+                return ResponseEntity.badRequest().build(); // 400
+            }
         }
-        else {
-            drama = aiService.aiUpdateDramaInfo(drama);
-            drama = dramaService.fillTWPlatformInformation(drama);
-            if (drama == null) {
-                return ResponseEntity.notFound().build();
+
+        if (!catalogReadModel.isDramaListReady()) {
+            // The read model is still being rebuilt (or its rebuild failed), so it may miss dramas
+            List<Drama> dramas = dramaService.getAllDramas();
+            if (dramas.isEmpty()) {
+                return ResponseEntity.noContent().build(); // 204
             }
-            else {
-                Drama savedDrama = dramaService.saveDrama(drama);
-                return ResponseEntity.ok(savedDrama);
-            }    
+            return jsonWriters.ok(dramas, displayNameMode);
         }
-    }
 
-    @GetMapping("/findAll")
-    public ResponseEntity<JsonNode> findDramas(
-        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
-        
-        List<Drama> dramas = dramaService.getAllDramas();
+        // Served from the read model, without loading any Drama (refer to CatalogReadModel.java)
+        List<String> dramas = catalogReadModel.getAllDramaJson(displayNameMode);
         if (dramas.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
+        return jsonWriters.okRawArray(dramas);
+    }
 
-        try {
-            JsonNode jsonNode = mapper.valueToTree(dramas);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).build();
+    // Only the fields of the list views, e.g. [{"workId": 1, "chineseName": "...", ..., "genres": [...], "platforms": [...]}]
+    @GetMapping("/summaries")
+    public ResponseEntity<StreamingResponseBody> findDramaSummaries(
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+        if (!catalogReadModel.isDramaListReady()) {
+            return ResponseEntity.status(HttpStatus.SC_SERVICE_UNAVAILABLE).build(); // 503, the read model may miss dramas
+        }
+        List<CatalogEntryRepository.Summary> summaries = catalogReadModel.getDramaSummaries();
+        if (summaries.isEmpty()) {
+            return ResponseEntity.noContent().build(); // 204
         }
+
+        return jsonWriters.ok(summaries, displayNameMode);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JsonNode> findSelectedDramaById(
+    public ResponseEntity<StreamingResponseBody> findSelectedDramaById(
         @PathVariable Integer id,
         @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
         
+        // Until the rebuild is done, an entry may still hold the JSON of an older MODEL_VERSION
+        Optional<String> storedDrama = catalogReadModel.isDramaListReady()
+            ? catalogReadModel.getDramaJson(id, displayNameMode) : Optional.empty();
+        if (storedDrama.isPresent()) {
+            return jsonWriters.okRaw(storedDrama.get());
+        }
+
+        // Not in the read model yet (e.g. stored before it existed and not rebuilt yet)
         Optional<Drama> optionalDrama = dramaService.getDramaById(id);
         if (optionalDrama.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204
@@ -112,24 +165,12 @@ public class DramaController {
         
         Drama drama = optionalDrama.get();
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(drama);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(drama, displayNameMode);
     }
 
     @GetMapping("/chineseName")
-    public ResponseEntity<JsonNode> findSelectedDramaByChineseName(
+    public ResponseEntity<StreamingResponseBody> findSelectedDramaByChineseName(
         @RequestParam String chineseName,
         @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
         
@@ -167,20 +208,8 @@ public class DramaController {
             drama = optionalDrama.get();
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(drama);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(drama, displayNameMode);
     }
 
     @PutMapping("/apiupdate/{id}")
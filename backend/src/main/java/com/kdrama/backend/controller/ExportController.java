@@ -0,0 +1,123 @@
+package com.kdrama.backend.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.kdrama.backend.service.CatalogExportService;
+
+// Streaming export of the catalog, e.g. for clients that mirror it (refer to CatalogExportService.java)
+// - format=ndjson (default, application/x-ndjson) or format=json (one JSON array)
+// - since=2026-01-01 00:00:00 (or 2026-01-01T00:00:00): only the rows whose lastUpdatedByApi is at or after it
+// - Compressed with gzip when the request has "Accept-Encoding: gzip"
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final DateTimeFormatter SINCE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private interface Exporter {
+        long export(LocalDateTime since, CatalogExportService.Format format, boolean displayNameMode, OutputStream out) throws Exception;
+    }
+
+    @GetMapping("/dramas")
+    public ResponseEntity<StreamingResponseBody> exportDramas(
+        @RequestParam(required = false, defaultValue = "ndjson") String format,
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return export("dramas", catalogExportService::exportDramas, format, since, displayNameMode, acceptEncoding);
+    }
+
+    @GetMapping("/movies")
+    public ResponseEntity<StreamingResponseBody> exportMovies(
+        @RequestParam(required = false, defaultValue = "ndjson") String format,
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return export("movies", catalogExportService::exportMovies, format, since, displayNameMode, acceptEncoding);
+    }
+
+    @GetMapping("/actors")
+    public ResponseEntity<StreamingResponseBody> exportActors(
+        @RequestParam(required = false, defaultValue = "ndjson") String format,
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return export("actors", catalogExportService::exportActors, format, since, displayNameMode, acceptEncoding);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, Exporter exporter, String format, String since,
+                                                         boolean displayNameMode, String acceptEncoding) {
+        CatalogExportService.Format exportFormat;
+        LocalDateTime sinceTime;
+        try {
+            exportFormat = CatalogExportService.Format.valueOf(format.trim().toUpperCase());
+            sinceTime = parseSince(since);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println("Invalid export request: " + e.getMessage());
+            return ResponseEntity.badRequest().build(); // 400
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                long count;
+                if (gzip) {
+                    // The GZIPOutputStream has to be finished, but the servlet output stream is closed by the container
+                    GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192);
+                    count = exporter.export(sinceTime, exportFormat, displayNameMode, gzipStream);
+                    gzipStream.finish();
+                } else {
+                    count = exporter.export(sinceTime, exportFormat, displayNameMode, outputStream);
+                }
+                System.out.println("Exported " + count + " " + name + " in " + (System.currentTimeMillis() - startTime) + " ms");
+            } catch (Exception e) {
+                System.err.println("Failed to export " + name + ": " + e.getMessage());
+                e.printStackTrace();
+                throw new IOException(e);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(exportFormat == CatalogExportService.Format.NDJSON ? NDJSON : MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // null for a full export
+    private static LocalDateTime parseSince(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        String value = since.trim();
+        return value.contains("T") ? LocalDateTime.parse(value) : LocalDateTime.parse(value, SINCE_FORMAT);
+    }
+}
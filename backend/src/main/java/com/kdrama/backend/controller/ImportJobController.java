@@ -0,0 +1,75 @@
+package com.kdrama.backend.controller;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.enums.ImportWorkType;
+import com.kdrama.backend.model.ImportJob;
+import com.kdrama.backend.service.BulkImportService;
+
+// Bulk import jobs (refer to BulkImportService.java)
+// e.g. POST /api/imports?workType=drama with body ["善意的競爭", "苦盡柑來遇見你"] -> 202 + job progress
+
+@RestController
+@RequestMapping("/api/imports")
+@com.kdrama.backend.security.RequireRole({com.kdrama.backend.enums.Role.ADMIN})
+public class ImportJobController {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    private final JsonResponseWriters jsonWriters;
+
+    public ImportJobController(JsonResponseWriters jsonWriters) {
+        this.jsonWriters = jsonWriters;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createImportJob(@RequestParam String workType, @RequestBody List<String> titles) {
+        ImportWorkType type;
+        try {
+            type = ImportWorkType.valueOf(workType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.SC_BAD_REQUEST)
+                                .body("workType must be drama, movie or actor");
+        }
+
+        if (titles == null || titles.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SC_BAD_REQUEST)
+                                .body("At least one title is required");
+        }
+
+        BulkImportService.JobProgress progress = bulkImportService.createJob(type, titles);
+        return jsonWriters.withStatus(HttpStatus.SC_ACCEPTED, progress, true);
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> findRecentImportJobs(
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+
+        List<ImportJob> jobs = bulkImportService.getRecentJobs();
+        if (jobs.isEmpty()) {
+            return ResponseEntity.noContent().build(); // 204
+        }
+        return jsonWriters.ok(jobs, displayNameMode);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<StreamingResponseBody> findImportJobProgress(
+        @PathVariable Integer jobId,
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+
+        Optional<BulkImportService.JobProgress> optionalProgress = bulkImportService.getJobProgress(jobId);
+        if (optionalProgress.isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404
+        }
+        return jsonWriters.ok(optionalProgress.get(), displayNameMode);
+    }
+}
@@ -8,14 +8,16 @@ import org.apache.hc.core5.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.config.JsonResponseWriters;
 import com.kdrama.backend.model.Movie;
+import com.kdrama.backend.repository.CatalogEntryRepository;
 import com.kdrama.backend.service.AiService;
+import com.kdrama.backend.service.CatalogReadModel;
 import com.kdrama.backend.service.MovieService;
-import com.kdrama.backend.util.DisplayNameEnumSerializer;
+import com.kdrama.backend.util.KeysetPagination;
 
 @RestController
 @RequestMapping("/api/movies")
@@ -24,6 +26,12 @@ public class MovieController {
     @Autowired
     private MovieService movieService;
 
+    @Autowired
+    private JsonResponseWriters jsonWriters;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
     private final ObjectMapper objectMapper;
 
     private final AiService aiService;
@@ -73,29 +81,76 @@ public class MovieController {
         }
     }
 
+    // Without any of the paging / sorting / filter parameters: every movie as a JSON array (as before)
+    // Otherwise one page: {"items": [...], "nextCursor": "..."}; nextCursor is passed as cursor to get the next page (null on the last one)
+    // sort: chineseName, releaseDate or lastUpdatedByApi (id by default); order: asc / desc; size: 1-100 (24 by default)
     @GetMapping("/findAll")
-    public ResponseEntity<JsonNode> findMovies() {
-        
-        List<Movie> movies = movieService.getAllMovies();
+    public ResponseEntity<StreamingResponseBody> findMovies(
+        @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String order,
+        @RequestParam(required = false) String genre,
+        @RequestParam(required = false) String releaseYear,
+        @RequestParam(required = false) String platform) {
+
+        boolean paged = size != null || cursor != null || sort != null || order != null
+            || genre != null || releaseYear != null || platform != null;
+        if (paged) {
+            try {
+                KeysetPagination.Request page = KeysetPagination.request(sort, order, size, cursor, "movieId", MovieService.SORT_KEYS);
+                KeysetPagination.Page<Movie> result = movieService.findMovies(new MovieService.MovieFilter(genre, releaseYear, platform), page);
+                return jsonWriters.ok(result, false); // {"items": [...], "nextCursor": "..."}
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid page request: " + e.getMessage());
+                return ResponseEntity.badRequest().build(); // 400
+            }
+        }
+
+        if (!catalogReadModel.isMovieListReady()) {
+            // The read model is still being rebuilt (or its rebuild failed), so it may miss movies
+            List<Movie> movies = movieService.getAllMovies();
+            if (movies.isEmpty()) {
+                return ResponseEntity.noContent().build(); // 204
+            }
+            return jsonWriters.ok(movies, false);
+        }
+
+        // Served from the read model, without loading any Movie (refer to CatalogReadModel.java)
+        List<String> movies = catalogReadModel.getAllMovieJson(false);
         if (movies.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204
         }
 
-        ObjectMapper mapper = objectMapper.copy();
+        return jsonWriters.okRawArray(movies);
+    }
 
-        try {
-            JsonNode jsonNode = mapper.valueToTree(movies);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).build();
+    // Only the fields of the list views, e.g. [{"workId": 1, "chineseName": "...", ..., "genres": [...], "platforms": [...]}]
+    @GetMapping("/summaries")
+    public ResponseEntity<StreamingResponseBody> findMovieSummaries() {
+        if (!catalogReadModel.isMovieListReady()) {
+            return ResponseEntity.status(HttpStatus.SC_SERVICE_UNAVAILABLE).build(); // 503, the read model may miss movies
+        }
+        List<CatalogEntryRepository.Summary> summaries = catalogReadModel.getMovieSummaries();
+        if (summaries.isEmpty()) {
+            return ResponseEntity.noContent().build(); // 204
         }
+
+        return jsonWriters.ok(summaries, true);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JsonNode> findSelectedMovieById(
+    public ResponseEntity<StreamingResponseBody> findSelectedMovieById(
         @PathVariable Integer id) {
         
+        // Until the rebuild is done, an entry may still hold the JSON of an older MODEL_VERSION
+        Optional<String> storedMovie = catalogReadModel.isMovieListReady()
+            ? catalogReadModel.getMovieJson(id, false) : Optional.empty();
+        if (storedMovie.isPresent()) {
+            return jsonWriters.okRaw(storedMovie.get());
+        }
+
+        // Not in the read model yet (e.g. stored before it existed and not rebuilt yet)
         Optional<Movie> optionalMovie = movieService.getMovieById(id);
         if (optionalMovie.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204
@@ -103,20 +158,12 @@ public class MovieController {
         
         Movie movie = optionalMovie.get();
 
-        ObjectMapper mapper = objectMapper.copy();
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(movie);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(movie, false);
     }
 
     @GetMapping("/chineseName")
-    public ResponseEntity<JsonNode> findSelectedMovieByChineseName(
+    public ResponseEntity<StreamingResponseBody> findSelectedMovieByChineseName(
         @RequestParam String chineseName,
         @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
         
@@ -154,20 +201,8 @@ public class MovieController {
             movie = optionalMovie.get();
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
-
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(movie);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(movie, displayNameMode);
     }
 
     @PutMapping("/apiupdate/{id}")
@@ -0,0 +1,99 @@
+package com.kdrama.backend.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.service.CatalogSearchService;
+import com.kdrama.backend.util.FacetBitmapIndex;
+
+// Faceted search (refer to CatalogSearchService.java)
+// Every filter parameter is one OR clause of facet:value terms separated by "|"; the clauses are combined with AND
+// e.g. /api/search/dramas?filter=genre:愛情|genre:喜劇&filter=platform:Netflix&filter=status:COMPLETED
+// Response: {"total": 42, "items": [...], "counts": {"genre": {"愛情": 30, ...}, ...}}
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
+    private final JsonResponseWriters jsonWriters;
+
+    private static final int DEFAULT_LIMIT = 24;
+    private static final int MAX_LIMIT = 100;
+
+    public SearchController(JsonResponseWriters jsonWriters) {
+        this.jsonWriters = jsonWriters;
+    }
+
+    @GetMapping("/dramas")
+    public ResponseEntity<StreamingResponseBody> searchDramas(
+        HttpServletRequest request,
+        @RequestParam(required = false, defaultValue = "0") int offset,
+        @RequestParam(required = false, defaultValue = "" + DEFAULT_LIMIT) int limit,
+        @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
+
+        try {
+            List<List<FacetBitmapIndex.Term>> clauses = parseClauses(request.getParameterValues("filter"), catalogSearchService::isDramaFacet, offset, limit);
+            CatalogSearchService.SearchResult<?> result = catalogSearchService.searchDramas(clauses, offset, limit);
+            return jsonWriters.ok(result, displayNameMode);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid search: " + e.getMessage());
+            return ResponseEntity.badRequest().build(); // 400
+        }
+    }
+
+    @GetMapping("/movies")
+    public ResponseEntity<StreamingResponseBody> searchMovies(
+        HttpServletRequest request,
+        @RequestParam(required = false, defaultValue = "0") int offset,
+        @RequestParam(required = false, defaultValue = "" + DEFAULT_LIMIT) int limit) {
+
+        try {
+            List<List<FacetBitmapIndex.Term>> clauses = parseClauses(request.getParameterValues("filter"), catalogSearchService::isMovieFacet, offset, limit);
+            CatalogSearchService.SearchResult<?> result = catalogSearchService.searchMovies(clauses, offset, limit);
+            return jsonWriters.ok(result, true);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid search: " + e.getMessage());
+            return ResponseEntity.badRequest().build(); // 400
+        }
+    }
+
+    // e.g. ["genre:愛情|genre:喜劇", "platform:Netflix"] -> [[genre:愛情, genre:喜劇], [platform:Netflix]]
+    // filters: the filter parameters as sent; bound with @RequestParam, a single one would be split on its commas
+    // (e.g. a platform or genre name containing a comma)
+    private List<List<FacetBitmapIndex.Term>> parseClauses(String[] filters, Predicate<String> isFacet, int offset, int limit) {
+        if (offset < 0 || limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("offset has to be at least 0 and limit between 0 and " + MAX_LIMIT);
+        }
+        List<List<FacetBitmapIndex.Term>> clauses = new ArrayList<>();
+        if (filters == null) {
+            return clauses;
+        }
+        for (String filter : filters) {
+            List<FacetBitmapIndex.Term> clause = new ArrayList<>();
+            for (String term : filter.split("\\|")) {
+                int separator = term.indexOf(':');
+                if (separator <= 0 || !isFacet.test(term.substring(0, separator).trim())) {
+                    throw new IllegalArgumentException("Invalid filter term " + term);
+                }
+                clause.add(new FacetBitmapIndex.Term(term.substring(0, separator).trim(), term.substring(separator + 1).trim()));
+            }
+            clauses.add(clause);
+        }
+        return clauses;
+    }
+}
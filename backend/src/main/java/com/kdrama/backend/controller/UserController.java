@@ -3,17 +3,13 @@ package com.kdrama.backend.controller;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.config.JsonResponseWriters;
 import com.kdrama.backend.model.User;
 import com.kdrama.backend.service.UserService;
-import com.kdrama.backend.util.DisplayNameEnumSerializer;
 import com.kdrama.backend.repository.UserRepository;
 
-import org.apache.hc.core5.http.HttpStatus;
-
 import java.util.List;
 import java.util.Optional;
 import java.util.HashMap;
@@ -29,9 +25,9 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
-    private final ObjectMapper objectMapper;
-    public UserController(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    private final JsonResponseWriters jsonWriters;
+    public UserController(JsonResponseWriters jsonWriters) {
+        this.jsonWriters = jsonWriters;
     }
 
     @PostMapping("/create")
@@ -69,7 +65,7 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JsonNode> getUser(@PathVariable Integer id,
+    public ResponseEntity<StreamingResponseBody> getUser(@PathVariable Integer id,
         @RequestParam(required = false, defaultValue = "true") boolean displayNameMode) {
         
         Optional<User> optionalUser = userService.getUserById(id);
@@ -78,21 +74,9 @@ public class UserController {
         }
         
         User user = optionalUser.get();
-        
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(displayNameMode));
-
-        ObjectMapper mapper = objectMapper.copy();
-        mapper.registerModule(module);
 
-        try {
-            // Return JsonNode to frontend
-            JsonNode jsonNode = mapper.valueToTree(user);
-            return ResponseEntity.ok(jsonNode);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.SC_INTERNAL_SERVER_ERROR).build();
-        }
+        // Return JSON to frontend
+        return jsonWriters.ok(user, displayNameMode);
     }
 
     @GetMapping("/username/{username}")
@@ -0,0 +1,24 @@
+package com.kdrama.backend.enums;
+
+// Status of one title in a bulk import job (refer to BulkImportService.java)
+public enum ImportItemStatus implements HasDisplayName {
+    QUEUED("等待中"),
+    RUNNING("匯入中"),
+    DONE("已完成"),
+    FAILED("匯入失敗"),
+    DUPLICATE("已存在");
+
+    private final String displayName;
+
+    ImportItemStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED || this == DUPLICATE;
+    }
+}
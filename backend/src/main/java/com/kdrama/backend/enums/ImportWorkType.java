@@ -0,0 +1,18 @@
+package com.kdrama.backend.enums;
+
+// What a bulk import job imports (refer to BulkImportService.java)
+public enum ImportWorkType implements HasDisplayName {
+    DRAMA("韓劇"),
+    MOVIE("韓影"),
+    ACTOR("演員");
+
+    private final String displayName;
+
+    ImportWorkType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.kdrama.backend.enums;
+
+// How the works of an OTT platform are scraped (refer to TWOTTPlatformScraper.java)
+public enum ScraperBackend implements HasDisplayName {
+    BROWSER("瀏覽器"),     // Chrome session (HeadlessBrowserPool.java), for pages rendered by JavaScript
+    HTTP("HTTP 直接讀取"); // Plain HTTP requests and HTML parsing (HttpPlatformScraper.java), for server-rendered pages
+
+    private final String displayName;
+
+    ScraperBackend(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
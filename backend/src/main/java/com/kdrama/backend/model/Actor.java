@@ -5,6 +5,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Data;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -12,6 +17,8 @@ import com.kdrama.backend.enums.*;
 
 @Data // Automatic generation of getXXX(), setXXX(), etc.
 @Entity
+@Cacheable // Second-level cache (refer to CatalogCacheConfig.java)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.actor")
 public class Actor {
     @Id
     @GeneratedValue(strategy=GenerationType.IDENTITY)
@@ -42,8 +49,11 @@ public class Actor {
     private String biography; // Manually added or added via AI
 
     // Set Relationships with Drama and Movie
+    // @BatchSize: the dramas / movies of up to 100 actors are loaded with one query (refer to Drama.java)
 
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.actor.collections")
     @JoinTable(name = "actor_drama",
         joinColumns = @JoinColumn(name = "actor_id"),
         inverseJoinColumns = @JoinColumn(name = "drama_id"))
@@ -55,6 +65,8 @@ public class Actor {
     }
 
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.actor.collections")
     @JoinTable(name = "actor_movie",
         joinColumns = @JoinColumn(name = "actor_id"),
         inverseJoinColumns = @JoinColumn(name = "movie_id"))
@@ -0,0 +1,63 @@
+package com.kdrama.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.ImportWorkType;
+
+// Read model of a drama / movie, written in the same transaction as the work itself (refer to CatalogReadModel.java)
+// - The list fields are copied as columns, so the list views are read without loading any Drama / Movie
+// - The whole work is stored as JSON as the endpoints write it, once with enums as display names and once with their names
+
+@Data // Automatic generation of getXXX(), setXXX(), etc.
+@Entity
+@Table(name = "catalog_entry",
+    uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"work_type", "work_id"})
+})
+public class CatalogEntry {
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Integer entryId; // Primary Key
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "work_type", nullable = false)
+    private ImportWorkType workType; // DRAMA or MOVIE
+
+    @Column(name = "work_id", nullable = false)
+    private Integer workId; // dramaId / movieId
+
+    private String chineseName;
+
+    private String englishName;
+
+    private String koreanName;
+
+    private String releaseYear; // Release year of a drama (e.g. 2024-2025), or the year of the release date of a movie
+
+    @Enumerated(EnumType.STRING)
+    private DramaStatus status; // null for movies
+
+    private String mainPosterUrl;
+
+    @Column(length = 1000)
+    private String genresJson; // e.g. ["愛情","喜劇"]
+
+    @Column(length = 1000)
+    private String platformsJson; // Names of the TW OTT platforms, e.g. ["Netflix","friDay影音"]
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastUpdatedByApi;
+
+    @Lob
+    private String displayNameJson; // The work with enums as display names (e.g. 已完結)
+
+    @Lob
+    private String nameJson; // The work with enums as names (e.g. COMPLETED)
+
+    private int modelVersion; // Entries older than CatalogReadModel.MODEL_VERSION are rebuilt on start
+}
@@ -2,7 +2,12 @@ package com.kdrama.backend.model;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.kdrama.backend.enums.*;
 
 import lombok.Data;
@@ -13,6 +18,8 @@ import java.util.Map;
 
 @Data // Automatic generation of getXXX(), setXXX(), etc.
 @Entity
+@Cacheable // Second-level cache (refer to CatalogCacheConfig.java)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama")
 @Table(name = "drama",
     uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tmdb_id", "season_number"})
@@ -52,25 +59,39 @@ public class Drama {
     @Enumerated(EnumType.STRING)
     private KRReleaseSchedule krReleaseSchedule; // Refer to KRReleaseSchedule.java
     
+    // @BatchSize: the collections of up to 100 dramas (e.g. one page of findAll) are loaded with one query per collection,
+    // instead of one query per collection per drama (N+1, refer to CollectionBatchFetchTest.java)
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     private List<String> genres; // Romantic Comedy, Thriller, etc.
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     private List<String> networks; // Original channel or platform for Korean users
     
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     @MapKeyColumn(name = "platform_name")
     @Column(name = "url")
     @CollectionTable(name = "drama_tw_platform_map", joinColumns = @JoinColumn(name = "drama_id"))
     private Map<String, String> dramaTwPlatformMap; // <platform_name, url>, platforms include Netflix, friDay Video, etc., handled by TWOTTPlatformScraper.java
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     private List<String> leadActors; // In Chinese
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     private List<String> directorNames; // In Chinese
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.drama.collections")
     private List<String> scriptwriterNames; // In Chinese
 
     private String mainPosterUrl; // Fetched via TMDB API
@@ -87,4 +108,8 @@ public class Drama {
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime lastUpdatedByApi; // Sync with TMDB API
+
+    @JsonIgnore // Internal; only set by the TMDB sync, never sent to or taken from clients
+    @Column(length = 64)
+    private String tmdbContentHash; // Hash of the TMDB document of the last API sync (refer to TmdbContentHash.java)
 }
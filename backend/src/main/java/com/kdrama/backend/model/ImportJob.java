@@ -0,0 +1,30 @@
+package com.kdrama.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.kdrama.backend.enums.ImportWorkType;
+
+@Data // Automatic generation of getXXX(), setXXX(), etc.
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Integer jobId; // Primary Key
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportWorkType workType; // Dramas, movies or actors
+
+    private Integer totalItems; // Number of titles in the job
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt; // null while some items are still queued or running
+}
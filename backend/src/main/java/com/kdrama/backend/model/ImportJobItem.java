@@ -0,0 +1,54 @@
+package com.kdrama.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.kdrama.backend.enums.ImportItemStatus;
+
+@Data // Automatic generation of getXXX(), setXXX(), etc.
+@Entity
+@Table(name = "import_job_item",
+    indexes = {
+    @Index(columnList = "job_id"),
+    @Index(columnList = "status")
+})
+public class ImportJobItem {
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Integer itemId; // Primary Key
+
+    @Column(name = "job_id", nullable = false)
+    private Integer jobId; // Refer to ImportJob.java
+
+    private String title; // Chinese title of the drama / movie, or Chinese name of the actor
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImportItemStatus status; // Refer to ImportItemStatus.java
+
+    private Integer resultId; // dramaId / movieId / actorId of the imported item
+
+    // The default length of a column; kept, as ddl-auto=update does not widen the column of an existing table
+    public static final int MESSAGE_LENGTH = 255;
+
+    @Column(length = MESSAGE_LENGTH)
+    private String message; // Reason of failure, if any (e.g. an exception message, cut to MESSAGE_LENGTH characters)
+
+    private int attempts; // Counted each time a worker starts the item (including resumes after a restart)
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    // Exception messages can be longer than the column (e.g. a whole response body), which would fail saving the item
+    public void setMessage(String message) {
+        this.message = message != null && message.length() > MESSAGE_LENGTH
+            ? message.substring(0, MESSAGE_LENGTH - 3) + "..."
+            : message;
+    }
+}
@@ -5,12 +5,19 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 
 @Data // Automatic generation of getXXX(), setXXX(), etc.
 @Entity
+@Cacheable // Second-level cache (refer to CatalogCacheConfig.java)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie")
 public class Movie {
     @Id
     @GeneratedValue(strategy=GenerationType.IDENTITY)
@@ -33,22 +40,34 @@ public class Movie {
 
     private String releaseDate;
 
+    // @BatchSize: the collections of up to 100 movies (e.g. one page of findAll) are loaded with one query per collection,
+    // instead of one query per collection per movie (N+1, refer to CollectionBatchFetchTest.java)
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie.collections")
     private List<String> genres; // Romantic Comedy, Thriller, etc.
     
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie.collections")
     @MapKeyColumn(name = "platform_name")
     @Column(name = "url")
     @CollectionTable(name = "movie_tw_platform_map", joinColumns = @JoinColumn(name = "movie_id"))
     private Map<String, String> movieTwPlatformMap; // <platform_name, url>, platforms include Netflix, friDay Video, etc., handled by TWOTTPlatformScraper.java
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie.collections")
     private List<String> leadActors; // In Chinese
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie.collections")
     private List<String> directorNames; // In Chinese
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.movie.collections")
     private List<String> scriptwriterNames; // In Chinese
 
     private String mainPosterUrl; // Fetched via TMDB API
@@ -65,4 +84,8 @@ public class Movie {
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime lastUpdatedByApi; // Sync with TMDB API
+
+    @JsonIgnore // Internal; only set by the TMDB sync, never sent to or taken from clients
+    @Column(length = 64)
+    private String tmdbContentHash; // Hash of the TMDB document of the last API sync (refer to TmdbContentHash.java)
 }
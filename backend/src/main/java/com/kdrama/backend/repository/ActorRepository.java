@@ -1,19 +1,68 @@
 package com.kdrama.backend.repository;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.kdrama.backend.enums.ActorGender;
 import com.kdrama.backend.model.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ActorRepository extends JpaRepository<Actor, Integer>{
+public interface ActorRepository extends JpaRepository<Actor, Integer>, JpaSpecificationExecutor<Actor> {
     // Already includes CRUD (Create, Read, Update, Delete) methods
     // Called by DramaService.java
+
+    // Cached query results (refer to CatalogCacheConfig.java), dropped by Hibernate whenever the table changes
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
     Optional<Actor> findByTmdbId(Integer tmdbId);
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
     Optional<Actor> findByChineseName(String chineseName);
     List<Actor> findByDramasContaining(Drama drama);
     List<Actor> findByMoviesContaining(Movie movie);
+
+    // Fields of the actor list view only: read as a tuple, without loading the actors or their dramas / movies
+    interface SummaryView {
+        Integer getActorId();
+        String getChineseName();
+        String getEnglishName();
+        String getKoreanName();
+        String getProfilePicUrl();
+        ActorGender getActorGender();
+        String getBirthday();
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime getLastUpdatedByApi();
+    }
+
+    List<SummaryView> findAllProjectedByOrderByActorId();
+
+    // Export (refer to CatalogExportService.java): ids are read in chunks, oldest first (keyset over the id),
+    // then each chunk is loaded at once, so the @BatchSize of the collections applies
+    // since: null for every actor; afterId: last id of the previous chunk (0 for the first one); chunk: PageRequest.of(0, size)
+    @Query("select a.actorId from Actor a where (:since is null or a.lastUpdatedByApi >= :since) and a.actorId > :afterId order by a.actorId")
+    List<Integer> findIdsForExport(@Param("since") LocalDateTime since, @Param("afterId") Integer afterId, Pageable chunk);
+
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE") // Keeps the export out of the second-level cache
+    })
+    @Query("select a from Actor a where a.actorId in :ids order by a.actorId")
+    List<Actor> findAllForExport(@Param("ids") List<Integer> ids);
 }
@@ -0,0 +1,69 @@
+package com.kdrama.backend.repository;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.ImportWorkType;
+import com.kdrama.backend.model.CatalogEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogEntryRepository extends JpaRepository<CatalogEntry, Integer> {
+    // Already includes CRUD (Create, Read, Update, Delete) methods
+    // Called by CatalogReadModel.java
+    // The read methods return the stored JSON / a record, so nothing is added to the persistence context
+
+    // One row of the list views, e.g. {"workId": 1, "chineseName": "善意的競爭", ..., "genres": ["愛情"], "platforms": ["Netflix"]}
+    record Summary(Integer workId, String chineseName, String englishName, String koreanName, String releaseYear,
+                   DramaStatus status, String mainPosterUrl,
+                   @JsonRawValue @JsonProperty("genres") String genresJson,
+                   @JsonRawValue @JsonProperty("platforms") String platformsJson,
+                   @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime lastUpdatedByApi) {}
+
+    Optional<CatalogEntry> findByWorkTypeAndWorkId(ImportWorkType workType, Integer workId);
+
+    List<Summary> findByWorkTypeOrderByWorkId(ImportWorkType workType);
+
+    @Query("select e.displayNameJson from CatalogEntry e where e.workType = :workType order by e.workId")
+    List<String> findAllDisplayNameJson(@Param("workType") ImportWorkType workType);
+
+    @Query("select e.nameJson from CatalogEntry e where e.workType = :workType order by e.workId")
+    List<String> findAllNameJson(@Param("workType") ImportWorkType workType);
+
+    @Query("select e.displayNameJson from CatalogEntry e where e.workType = :workType and e.workId = :workId")
+    Optional<String> findDisplayNameJson(@Param("workType") ImportWorkType workType, @Param("workId") Integer workId);
+
+    @Query("select e.nameJson from CatalogEntry e where e.workType = :workType and e.workId = :workId")
+    Optional<String> findNameJson(@Param("workType") ImportWorkType workType, @Param("workId") Integer workId);
+
+    @Modifying
+    @Query("delete from CatalogEntry e where e.workType = :workType and e.workId = :workId")
+    int deleteByWork(@Param("workType") ImportWorkType workType, @Param("workId") Integer workId);
+
+    // Works without an up-to-date entry (stored before the read model existed, or with an older MODEL_VERSION)
+    @Query("select d.dramaId from Drama d where not exists (select e.entryId from CatalogEntry e"
+        + " where e.workType = com.kdrama.backend.enums.ImportWorkType.DRAMA and e.workId = d.dramaId and e.modelVersion >= :version)")
+    List<Integer> findStaleDramaIds(@Param("version") int version);
+
+    @Query("select m.movieId from Movie m where not exists (select e.entryId from CatalogEntry e"
+        + " where e.workType = com.kdrama.backend.enums.ImportWorkType.MOVIE and e.workId = m.movieId and e.modelVersion >= :version)")
+    List<Integer> findStaleMovieIds(@Param("version") int version);
+
+    // Entries of works that no longer exist
+    @Modifying
+    @Query("delete from CatalogEntry e where (e.workType = com.kdrama.backend.enums.ImportWorkType.DRAMA"
+        + " and not exists (select d.dramaId from Drama d where d.dramaId = e.workId))"
+        + " or (e.workType = com.kdrama.backend.enums.ImportWorkType.MOVIE"
+        + " and not exists (select m.movieId from Movie m where m.movieId = e.workId))")
+    int deleteOrphans();
+}
@@ -0,0 +1,67 @@
+package com.kdrama.backend.repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.MapJoin;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+// Filters of the /findAll endpoints (DramaRepository, MovieRepository and ActorRepository are JpaSpecificationExecutors)
+// Every filter is null if its value is not given, so it can be left out when the filters are combined
+// Collection filters use (correlated) subqueries instead of joins, so a work is never returned twice
+
+public class CatalogSpecifications {
+
+    // Filters that are not given (null) are left out
+    @SafeVarargs
+    public static <T> Specification<T> allOf(Specification<T>... specifications) {
+        return Specification.allOf(Arrays.stream(specifications).filter(Objects::nonNull).toList());
+    }
+
+    // e.g. status = COMPLETED
+    public static <T> Specification<T> hasValue(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(field), value);
+    }
+
+    // @ElementCollection List<String>, e.g. genres contains "愛情"
+    public static <T> Specification<T> hasElement(String collectionField, String element) {
+        if (element == null || element.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.isMember(element, root.<Collection<String>>get(collectionField));
+    }
+
+    // @ElementCollection Map<String, String>, e.g. dramaTwPlatformMap has the key "friDay影音"
+    public static <T> Specification<T> hasKey(String mapField, String key) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<T> correlated = subquery.correlate(root);
+            MapJoin<T, String, String> entries = correlated.joinMap(mapField);
+            subquery.select(cb.literal(1)).where(cb.equal(entries.key(), key));
+            return cb.exists(subquery);
+        };
+    }
+
+    // Release years are saved as text, e.g. "2024" or "2024-2025" (dramas) and "2024-05-01" (movies)
+    // Throws IllegalArgumentException if year is not a year, so it cannot carry LIKE wildcards (% or _)
+    public static <T> Specification<T> releasedIn(String field, String year) {
+        if (year == null || year.isBlank()) {
+            return null;
+        }
+        String trimmedYear = year.trim();
+        if (!trimmedYear.matches("[0-9]{4}")) {
+            throw new IllegalArgumentException("Invalid release year " + year);
+        }
+        return (root, query, cb) -> cb.like(root.get(field), "%" + trimmedYear + "%");
+    }
+}
@@ -2,19 +2,59 @@ package com.kdrama.backend.repository;
 
 import com.kdrama.backend.model.Drama;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface DramaRepository extends JpaRepository<Drama, Integer> {
+public interface DramaRepository extends JpaRepository<Drama, Integer>, JpaSpecificationExecutor<Drama> {
     // Already includes CRUD (Create, Read, Update, Delete) methods
     // Called by DramaService.java
     
     List<Drama> findByTmdbId(Integer tmdbId);
-    Optional<Drama> findByTmdbIdAndSeasonNumber(Integer tmdbId, Integer seasonNumber);
     Optional<List<Drama>> findAllByChineseName(String chineseName);
+
+    // Cached query results (refer to CatalogCacheConfig.java), dropped by Hibernate whenever the table changes
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
+    Optional<Drama> findByTmdbIdAndSeasonNumber(Integer tmdbId, Integer seasonNumber);
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
     Optional<Drama> findByChineseName(String chineseName);
+
+    // Ids and names only, e.g. to find the dramas of changed OTT platform titles (refer to TWOTTPlatformChangeFeed.java)
+    interface NameView {
+        Integer getDramaId();
+        String getChineseName();
+    }
+
+    List<NameView> findAllProjectedBy();
+
+    // Export (refer to CatalogExportService.java): ids are read in chunks, oldest first (keyset over the id),
+    // then each chunk is loaded at once, so the @BatchSize of the collections applies
+    // since: null for every drama; afterId: last id of the previous chunk (0 for the first one); chunk: PageRequest.of(0, size)
+    @Query("select d.dramaId from Drama d where (:since is null or d.lastUpdatedByApi >= :since) and d.dramaId > :afterId order by d.dramaId")
+    List<Integer> findIdsForExport(@Param("since") LocalDateTime since, @Param("afterId") Integer afterId, Pageable chunk);
+
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE") // Keeps the export out of the second-level cache
+    })
+    @Query("select d from Drama d where d.dramaId in :ids order by d.dramaId")
+    List<Drama> findAllForExport(@Param("ids") List<Integer> ids);
 }
@@ -0,0 +1,20 @@
+package com.kdrama.backend.repository;
+
+import com.kdrama.backend.enums.ImportItemStatus;
+import com.kdrama.backend.model.ImportJobItem;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobItemRepository extends JpaRepository<ImportJobItem, Integer> {
+    // Already includes CRUD (Create, Read, Update, Delete) methods
+    // Called by BulkImportService.java
+
+    List<ImportJobItem> findByJobIdOrderByItemId(Integer jobId);
+    List<ImportJobItem> findByStatusInOrderByItemId(Collection<ImportItemStatus> statuses);
+    long countByJobIdAndStatusIn(Integer jobId, Collection<ImportItemStatus> statuses);
+}
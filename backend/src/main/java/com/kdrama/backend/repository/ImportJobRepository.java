@@ -0,0 +1,16 @@
+package com.kdrama.backend.repository;
+
+import com.kdrama.backend.model.ImportJob;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Integer> {
+    // Already includes CRUD (Create, Read, Update, Delete) methods
+    // Called by BulkImportService.java
+
+    List<ImportJob> findTop20ByOrderByJobIdDesc();
+}
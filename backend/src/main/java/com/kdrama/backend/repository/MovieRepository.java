@@ -2,17 +2,57 @@ package com.kdrama.backend.repository;
 
 import com.kdrama.backend.model.Movie;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Integer>{
+public interface MovieRepository extends JpaRepository<Movie, Integer>, JpaSpecificationExecutor<Movie> {
     // Already includes CRUD (Create, Read, Update, Delete) methods
     // Called by MovieService.java
 
+    // Cached query results (refer to CatalogCacheConfig.java), dropped by Hibernate whenever the table changes
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
     Optional<Movie> findByTmdbId(Integer tmdbId);
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "catalog.queries")
+    })
     Optional<Movie> findByChineseName(String chineseName);
+
+    // Ids and names only, e.g. to find the movies of changed OTT platform titles (refer to TWOTTPlatformChangeFeed.java)
+    interface NameView {
+        Integer getMovieId();
+        String getChineseName();
+    }
+
+    List<NameView> findAllProjectedBy();
+
+    // Export (refer to CatalogExportService.java): ids are read in chunks, oldest first (keyset over the id),
+    // then each chunk is loaded at once, so the @BatchSize of the collections applies
+    // since: null for every movie; afterId: last id of the previous chunk (0 for the first one); chunk: PageRequest.of(0, size)
+    @Query("select m.movieId from Movie m where (:since is null or m.lastUpdatedByApi >= :since) and m.movieId > :afterId order by m.movieId")
+    List<Integer> findIdsForExport(@Param("since") LocalDateTime since, @Param("afterId") Integer afterId, Pageable chunk);
+
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE") // Keeps the export out of the second-level cache
+    })
+    @Query("select m from Movie m where m.movieId in :ids order by m.movieId")
+    List<Movie> findAllForExport(@Param("ids") List<Integer> ids);
 }
@@ -4,15 +4,21 @@ import java.io.File;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kdrama.backend.model.Actor;
+import com.kdrama.backend.enums.ActorGender;
 import com.kdrama.backend.repository.ActorRepository;
+import com.kdrama.backend.repository.CatalogSpecifications;
+import com.kdrama.backend.util.KeysetPagination;
 
 @Service
 public class ActorService {
@@ -22,6 +28,9 @@ public class ActorService {
     @Autowired
     private ActorRepository actorRepository;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
     private final AiService aiService;
 
     private final ObjectMapper objectMapper;
@@ -53,10 +62,16 @@ public class ActorService {
 
     // C1-2: Call TMDB API to fetch actor information
     public Actor fillActorMoreInfo(Actor actor, boolean includesExistingWork) {
+        return fillActorMoreInfo(actor, includesExistingWork, false, result -> {});
+    }
+
+    // C1-2 (incremental): Existing works are only refreshed if their TMDB content changed since the last sync
+    public Actor fillActorMoreInfo(Actor actor, boolean includesExistingWork, boolean incremental,
+                                   Consumer<FilmographyEngine.WorkResult> listener) {
         try {
 			actor = tmdbActorClient.fillActorOtherInfo(actor);
             actor = tmdbActorClient.fillNames(actor);
-            actor = tmdbActorClient.fillActorWorks(actor, includesExistingWork);
+            actor = tmdbActorClient.fillActorWorks(actor, includesExistingWork, incremental, listener);
             actor.setLastUpdatedByApi(LocalDateTime.now());
 
             String backupFilePath = "backup/actor_backup.json";
@@ -81,6 +96,24 @@ public class ActorService {
         return actorRepository.findAll();
     }
 
+    // R1-Bonus: Fields of the actor list view only (refer to ActorRepository.SummaryView)
+    public List<ActorRepository.SummaryView> getActorSummaries() {
+        return actorRepository.findAllProjectedByOrderByActorId();
+    }
+
+    public static final Set<String> SORT_KEYS = Set.of("chineseName", "birthday", "lastUpdatedByApi");
+
+    // R1-1: Get one page of the actors (keyset pagination, refer to KeysetPagination.java); gender: null for all
+    public KeysetPagination.Page<Actor> findActors(ActorGender gender, KeysetPagination.Request page) {
+        Specification<Actor> specification = CatalogSpecifications.allOf(
+            CatalogSpecifications.hasValue("actorGender", gender),
+            KeysetPagination.after(page, "actorId"));
+
+        List<Actor> rows = actorRepository.findBy(specification,
+            query -> query.sortBy(KeysetPagination.sort(page, "actorId")).limit(page.size() + 1).all());
+        return KeysetPagination.page(rows, page, "actorId");
+    }
+
     // R2: Get information of an actor identified by id
     public Optional<Actor> getActorById(@PathVariable Integer id) {
         return actorRepository.findById(id);
@@ -98,7 +131,7 @@ public class ActorService {
 
     // U: Update an actor
     public Actor updateActor(@PathVariable Integer id, @RequestBody Actor actorToUpdate, boolean apiMode) {
-        return actorRepository.findById(id)
+        Actor updatedActor = actorRepository.findById(id)
                 .map(actor -> {
                     actor.setTmdbId(actorToUpdate.getTmdbId());
                     actor.setChineseName(actorToUpdate.getChineseName());
@@ -125,11 +158,14 @@ public class ActorService {
                     actorToUpdate.setActorId(id);
                     return actorRepository.save(actorToUpdate);
                 });
+        catalogCache.evictActor(id); // Refer to CatalogCache.java
+        return updatedActor;
     }
 
     // D: Delete an actor
     public void deleteActor(@PathVariable Integer id) {
         actorRepository.deleteById(id);
+        catalogCache.evictActor(id);
     }
 
     // D-Bonus: Check if an actor exists in database before deletion
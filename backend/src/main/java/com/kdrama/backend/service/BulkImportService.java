@@ -0,0 +1,276 @@
+package com.kdrama.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.kdrama.backend.enums.ImportItemStatus;
+import com.kdrama.backend.enums.ImportWorkType;
+import com.kdrama.backend.model.*;
+import com.kdrama.backend.repository.ImportJobItemRepository;
+import com.kdrama.backend.repository.ImportJobRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Bulk import of dramas, movies or actors by Chinese title (used by ImportJobController.java)
+// - A job and its items are saved in the database first, then every item is handed to a small worker pool
+// - TMDB calls of all workers share the rate limiter in JsonNodeRequest.java, and the pool size
+//   (import.bulk.workers) bounds how many LLM calls run at the same time
+// - On startup, items that were still queued or running are resumed; finished items are never imported again
+
+@Service
+public class BulkImportService {
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportJobItemRepository importJobItemRepository;
+
+    @Autowired
+    private DramaImportPipeline dramaImportPipeline;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private ActorService actorService;
+
+    private final AiService aiService;
+
+    @Value("${import.bulk.workers:2}")
+    private int workers;
+
+    private ExecutorService workerPool;
+
+    private static final Set<ImportItemStatus> UNFINISHED = Set.of(ImportItemStatus.QUEUED, ImportItemStatus.RUNNING);
+
+    public BulkImportService(AiService aiService) {
+        this.aiService = aiService;
+    }
+
+    public record JobProgress(ImportJob job, Map<ImportItemStatus, Long> counts, List<ImportJobItem> items) {}
+
+    @PostConstruct
+    public void initWorkerPool() {
+        workerPool = Executors.newFixedThreadPool(Math.max(1, workers), Thread.ofVirtual().name("bulk-import-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished items stay QUEUED / RUNNING in the database and are resumed on the next startup
+        workerPool.shutdownNow();
+    }
+
+    // C: Create a job; blank and repeated titles are ignored
+    public JobProgress createJob(ImportWorkType workType, List<String> titles) {
+        Set<String> uniqueTitles = new LinkedHashSet<>();
+        for (String title : titles) {
+            if (title != null && !title.isBlank()) {
+                uniqueTitles.add(title.trim());
+            }
+        }
+
+        ImportJob job = new ImportJob();
+        job.setWorkType(workType);
+        job.setTotalItems(uniqueTitles.size());
+        job.setCreatedAt(LocalDateTime.now());
+        if (uniqueTitles.isEmpty()) {
+            job.setFinishedAt(LocalDateTime.now());
+        }
+        ImportJob savedJob = importJobRepository.save(job);
+
+        List<ImportJobItem> items = uniqueTitles.stream().map(title -> {
+            ImportJobItem item = new ImportJobItem();
+            item.setJobId(savedJob.getJobId());
+            item.setTitle(title);
+            item.setStatus(ImportItemStatus.QUEUED);
+            return item;
+        }).toList();
+        List<ImportJobItem> savedItems = importJobItemRepository.saveAll(items);
+
+        for (ImportJobItem item : savedItems) {
+            submit(item.getItemId());
+        }
+        return getJobProgress(savedJob.getJobId()).orElseThrow();
+    }
+
+    // R1: Progress of a job
+    public Optional<JobProgress> getJobProgress(Integer jobId) {
+        return importJobRepository.findById(jobId).map(job -> {
+            List<ImportJobItem> items = importJobItemRepository.findByJobIdOrderByItemId(jobId);
+            Map<ImportItemStatus, Long> counts = new EnumMap<>(ImportItemStatus.class);
+            for (ImportItemStatus status : ImportItemStatus.values()) {
+                counts.put(status, 0L);
+            }
+            for (ImportJobItem item : items) {
+                counts.merge(item.getStatus(), 1L, Long::sum);
+            }
+            return new JobProgress(job, counts, items);
+        });
+    }
+
+    // R2: Most recent jobs
+    public List<ImportJob> getRecentJobs() {
+        return importJobRepository.findTop20ByOrderByJobIdDesc();
+    }
+
+    // Items left RUNNING were interrupted by a shutdown, so they are queued again
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedItems() {
+        List<ImportJobItem> unfinishedItems = importJobItemRepository.findByStatusInOrderByItemId(UNFINISHED);
+        if (unfinishedItems.isEmpty()) {
+            return;
+        }
+
+        System.out.println("Resuming " + unfinishedItems.size() + " unfinished bulk import item(s)");
+        for (ImportJobItem item : unfinishedItems) {
+            if (item.getStatus() == ImportItemStatus.RUNNING) {
+                item.setStatus(ImportItemStatus.QUEUED);
+                importJobItemRepository.save(item);
+            }
+            submit(item.getItemId());
+        }
+    }
+
+    private void submit(Integer itemId) {
+        workerPool.execute(() -> runItem(itemId));
+    }
+
+    private void runItem(Integer itemId) {
+        ImportJobItem item = importJobItemRepository.findById(itemId).orElse(null);
+        if (item == null || item.getStatus().isFinished()) {
+            return;
+        }
+        ImportJob job = importJobRepository.findById(item.getJobId()).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        item.setStatus(ImportItemStatus.RUNNING);
+        item.setAttempts(item.getAttempts() + 1);
+        item.setStartedAt(LocalDateTime.now());
+        item = importJobItemRepository.save(item);
+
+        try {
+            switch (job.getWorkType()) {
+                case DRAMA:
+                    importDrama(item);
+                    break;
+                case MOVIE:
+                    importMovie(item);
+                    break;
+                case ACTOR:
+                    importActor(item);
+                    break;
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to import " + item.getTitle() + " (job " + job.getJobId() + "): " + e.getMessage());
+            e.printStackTrace();
+            item.setStatus(ImportItemStatus.FAILED);
+            item.setMessage(e.getMessage());
+        }
+
+        item.setFinishedAt(LocalDateTime.now());
+        importJobItemRepository.save(item);
+
+        if (importJobItemRepository.countByJobIdAndStatusIn(job.getJobId(), UNFINISHED) == 0) {
+            job.setFinishedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+        }
+    }
+
+    // Same steps as DramaController.importDrama()
+    private void importDrama(ImportJobItem item) {
+        DramaImportPipeline.ImportResult result = dramaImportPipeline.importDrama(item.getTitle());
+        switch (result.status()) {
+            case SAVED:
+                finish(item, ImportItemStatus.DONE, result.drama().getDramaId(), null);
+                break;
+            case CONFLICT:
+                finish(item, ImportItemStatus.DUPLICATE, null, "Drama already exists in database");
+                break;
+            default:
+                finish(item, ImportItemStatus.FAILED, null, "Drama not found");
+                break;
+        }
+    }
+
+    // Same steps as MovieController.importMovie()
+    private void importMovie(ImportJobItem item) {
+        String name = item.getTitle();
+        if (movieService.getMovieByChineseName(name).isPresent()) {
+            finish(item, ImportItemStatus.DUPLICATE, null, "Movie already exists in database");
+            return;
+        }
+        Movie movie = movieService.fillMovieBasicInfo(name);
+        if (movie == null || movie.getTmdbId() == null) {
+            finish(item, ImportItemStatus.FAILED, null, "Movie not found");
+            return;
+        }
+        if (movieService.getMovieByTmdbId(movie.getTmdbId()).isPresent()) {
+            finish(item, ImportItemStatus.DUPLICATE, null, "Movie already exists in database");
+            return;
+        }
+
+        movie = movieService.fillMovieMoreInfo(movie);
+        if (movie == null) {
+            finish(item, ImportItemStatus.FAILED, null, "Movie not found");
+            return;
+        }
+        movie = aiService.aiUpdateMovieInfo(movie);
+        movie = movieService.fillTWPlatformInformation(movie);
+        if (movie == null) {
+            finish(item, ImportItemStatus.FAILED, null, "Movie not found");
+            return;
+        }
+        Movie savedMovie = movieService.saveMovie(movie);
+        finish(item, ImportItemStatus.DONE, savedMovie.getMovieId(), null);
+    }
+
+    // Same steps as ActorController.importActor()
+    private void importActor(ImportJobItem item) {
+        String name = item.getTitle();
+        if (actorService.getActorByChineseName(name).isPresent()) {
+            finish(item, ImportItemStatus.DUPLICATE, null, "Actor already exists in database");
+            return;
+        }
+        Actor actor = actorService.fillActorBasicInfo(name);
+        if (actor == null || actor.getTmdbId() == null) {
+            finish(item, ImportItemStatus.FAILED, null, "Actor not found");
+            return;
+        }
+        if (actorService.getActorByTmdbId(actor.getTmdbId()).isPresent()) {
+            finish(item, ImportItemStatus.DUPLICATE, null, "Actor already exists in database");
+            return;
+        }
+
+        actor = actorService.fillActorMoreInfo(actor, true);
+        if (actor == null) {
+            finish(item, ImportItemStatus.FAILED, null, "Actor not found");
+            return;
+        }
+        actor = aiService.aiUpdateActorInfo(actor);
+        Actor savedActor = actorService.saveActor(actor);
+        finish(item, ImportItemStatus.DONE, savedActor.getActorId(), null);
+    }
+
+    private void finish(ImportJobItem item, ImportItemStatus status, Integer resultId, String message) {
+        item.setStatus(status);
+        item.setResultId(resultId);
+        item.setMessage(message);
+    }
+}
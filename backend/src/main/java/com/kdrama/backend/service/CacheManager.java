@@ -1,31 +1,49 @@
 package com.kdrama.backend.service;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.kdrama.backend.util.CacheFileUtil;
 
+// Scraped OTT platform caches (written by TWOTTPlatformScraper.java, read by TWOTTTitleIndex.java)
+// - Every cache is kept as an unmodifiable snapshot; all the snapshots are published together through one volatile map,
+//   which is replaced (never changed) on every write, so request threads read it without any lock
+// - A cache is read from cache/<name>.json on first access only
+// - Every write keeps the replaced file in cache/history/ (cache.history-versions), refer to rollbackCache()
+
 @Component
 public class CacheManager {
-    private final Map<String, Map<String, String>> caches = new HashMap<>();
 
-    public void saveCache(String title, Map<String, String> cache) {
-        caches.put(title, cache);
+    public record CacheSnapshot(long version, Map<String, String> entries) {}
+
+    private volatile Map<String, CacheSnapshot> snapshots = Map.of();
+
+    // Increased every time a cache is rewritten, so readers (e.g. TWOTTTitleIndex.java) know when to refresh
+    private final AtomicLong version = new AtomicLong();
+
+    @Value("${cache.history-versions:3}")
+    private int historyVersions;
+
+    public synchronized void saveCache(String title, Map<String, String> cache) {
         try {
-            CacheFileUtil.saveCacheToFile(title, cache);
+            CacheFileUtil.saveCacheToFile(title, cache, historyVersions);
         } catch (IOException e) {
             e.printStackTrace();
         }
+        publish(title, cache);
     }
 
-    public Map<String, String> loadCache(String title) {
+    // Read the file again, e.g. after it was replaced by hand
+    public synchronized Map<String, String> loadCache(String title) {
         try {
-            Map<String, String> cache = CacheFileUtil.loadCacheFromFile(title);
-            caches.put(title, cache);
-            return cache;
+            return publish(title, CacheFileUtil.loadCacheFromFile(title)).entries();
         } catch (IOException e) {
             e.printStackTrace();
             return new HashMap<>();
@@ -33,7 +51,69 @@ public class CacheManager {
     }
 
     public Map<String, String> getCache(String title) {
-        return caches.getOrDefault(title, new HashMap<>());
+        CacheSnapshot snapshot = snapshots.get(title);
+        if (snapshot != null) {
+            return snapshot.entries();
+        }
+        return loadOnFirstAccess(title);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // Replaced versions of a cache, newest first
+    public List<Long> getHistoryVersions(String title) {
+        try {
+            return CacheFileUtil.listVersions(title);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return List.of();
+        }
+    }
+
+    // Make a replaced version the current one again (the current one is kept in the history as well)
+    public synchronized boolean rollbackCache(String title, long historyVersion) {
+        try {
+            if (!CacheFileUtil.listVersions(title).contains(historyVersion)) {
+                return false;
+            }
+            Map<String, String> cache = CacheFileUtil.loadVersionFromFile(title, historyVersion);
+            saveCache(title, cache);
+            System.out.println("Cache " + title + " rolled back to version " + historyVersion + ", " + cache.size() + " entries");
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private synchronized Map<String, String> loadOnFirstAccess(String title) {
+        CacheSnapshot snapshot = snapshots.get(title);
+        if (snapshot != null) { // Loaded by another thread in the meantime
+            return snapshot.entries();
+        }
+        try {
+            // Reading the file does not change its content, so the version is not increased
+            Map<String, String> entries = Collections.unmodifiableMap(new HashMap<>(CacheFileUtil.loadCacheFromFile(title)));
+            replaceSnapshot(title, new CacheSnapshot(version.get(), entries));
+            return entries;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return Map.of();
+        }
     }
-}
 
+    private CacheSnapshot publish(String title, Map<String, String> cache) {
+        CacheSnapshot snapshot = new CacheSnapshot(version.incrementAndGet(), Collections.unmodifiableMap(new HashMap<>(cache)));
+        replaceSnapshot(title, snapshot);
+        return snapshot;
+    }
+
+    // Copy on write; only called while holding the lock
+    private void replaceSnapshot(String title, CacheSnapshot snapshot) {
+        Map<String, CacheSnapshot> updated = new HashMap<>(snapshots);
+        updated.put(title, snapshot);
+        snapshots = Collections.unmodifiableMap(updated);
+    }
+}
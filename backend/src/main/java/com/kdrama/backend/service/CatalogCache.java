@@ -0,0 +1,151 @@
+package com.kdrama.backend.service;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kdrama.backend.config.CatalogCacheConfig;
+import com.kdrama.backend.model.Actor;
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.model.Movie;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+// Evicts the second-level cache of a work once its update / deletion is committed (refer to CatalogCacheConfig.java)
+// - Hibernate already keeps the regions up to date on changes made through JPA; evicting covers the rest
+//   (e.g. another instance or a manual change of the database) as soon as the work is saved again
+// - The cached query results are dropped as a whole, as they can hold the work under its old name / tmdbId
+// - Per region: "catalog.cache.requests" (result = hit / miss) and "catalog.cache.hit.ratio", see /actuator/metrics
+
+@Service
+public class CatalogCache {
+
+    private static final List<String> DRAMA_COLLECTIONS = List.of("genres", "networks", "dramaTwPlatformMap",
+        "leadActors", "directorNames", "scriptwriterNames");
+    private static final List<String> MOVIE_COLLECTIONS = List.of("genres", "movieTwPlatformMap",
+        "leadActors", "directorNames", "scriptwriterNames");
+    private static final List<String> ACTOR_COLLECTIONS = List.of("dramas", "movies");
+
+    private final SessionFactory sessionFactory;
+    private final MeterRegistry meterRegistry;
+
+    public CatalogCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return; // catalog.cache.enabled=false
+        }
+        for (String region : CatalogCacheConfig.DATA_REGIONS) {
+            registerRegion(region, () -> statistics.getDomainDataRegionStatistics(region));
+        }
+        registerRegion(CatalogCacheConfig.QUERY_REGION, () -> statistics.getQueryRegionStatistics(CatalogCacheConfig.QUERY_REGION));
+    }
+
+    public void evictDrama(Integer dramaId) {
+        afterCommit(() -> {
+            evict(Drama.class, dramaId, DRAMA_COLLECTIONS);
+            sessionFactory.getCache().evictQueryRegion(CatalogCacheConfig.QUERY_REGION);
+        });
+    }
+
+    // The actors of a deleted drama no longer have it in their dramas
+    public void evictDeletedDrama(Integer dramaId) {
+        afterCommit(() -> {
+            evict(Drama.class, dramaId, DRAMA_COLLECTIONS);
+            sessionFactory.getCache().evictCollectionData(Actor.class.getName() + ".dramas");
+            sessionFactory.getCache().evictQueryRegion(CatalogCacheConfig.QUERY_REGION);
+        });
+    }
+
+    public void evictMovie(Integer movieId) {
+        afterCommit(() -> {
+            evict(Movie.class, movieId, MOVIE_COLLECTIONS);
+            sessionFactory.getCache().evictQueryRegion(CatalogCacheConfig.QUERY_REGION);
+        });
+    }
+
+    public void evictDeletedMovie(Integer movieId) {
+        afterCommit(() -> {
+            evict(Movie.class, movieId, MOVIE_COLLECTIONS);
+            sessionFactory.getCache().evictCollectionData(Actor.class.getName() + ".movies");
+            sessionFactory.getCache().evictQueryRegion(CatalogCacheConfig.QUERY_REGION);
+        });
+    }
+
+    public void evictActor(Integer actorId) {
+        afterCommit(() -> {
+            evict(Actor.class, actorId, ACTOR_COLLECTIONS);
+            sessionFactory.getCache().evictQueryRegion(CatalogCacheConfig.QUERY_REGION);
+        });
+    }
+
+    private void evict(Class<?> entityClass, Integer id, List<String> collections) {
+        if (id == null) {
+            return;
+        }
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityClass, id);
+        for (String collection : collections) {
+            cache.evictCollectionData(entityClass.getName() + "." + collection, id);
+        }
+    }
+
+    // Evicted before the commit, a concurrent read could cache the old state again
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private interface RegionStatistics {
+        CacheRegionStatistics get(); // null until the region is used
+    }
+
+    private void registerRegion(String region, RegionStatistics regionStatistics) {
+        FunctionCounter.builder("catalog.cache.requests", regionStatistics, count(CacheRegionStatistics::getHitCount))
+            .tag("region", region)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.requests", regionStatistics, count(CacheRegionStatistics::getMissCount))
+            .tag("region", region)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("catalog.cache.hit.ratio", regionStatistics, statistics -> {
+                CacheRegionStatistics current = statistics.get();
+                long requests = current == null ? 0 : current.getHitCount() + current.getMissCount();
+                return requests == 0 ? 0 : (double) current.getHitCount() / requests;
+            })
+            .tag("region", region)
+            .register(meterRegistry);
+    }
+
+    private static ToDoubleFunction<RegionStatistics> count(ToLongFunction<CacheRegionStatistics> counter) {
+        return statistics -> {
+            CacheRegionStatistics current = statistics.get();
+            return current == null ? 0 : counter.applyAsLong(current);
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.kdrama.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.repository.ActorRepository;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.repository.MovieRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Streams the whole catalog (or the works updated since a given time) to an output stream (refer to ExportController.java)
+// - Rows are read in chunks of CHUNK_SIZE: the ids of a chunk first (keyset over the id), then its rows with one query,
+//   so the collections of a whole chunk are loaded together (@BatchSize) instead of once per row
+// - The persistence context is cleared after every chunk, so heap use does not grow with the catalog size
+// - NDJSON: one JSON object per line; JSON: one array whose elements are written as they arrive
+
+@Service
+public class CatalogExportService {
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JsonResponseWriters jsonWriters;
+    private final TransactionTemplate readOnlyTemplate;
+
+    // Rows loaded at once, written between two clears of the persistence context (and flushes of the output stream)
+    private static final int CHUNK_SIZE = 200;
+
+    // One query of a repository, e.g. DramaRepository.findIdsForExport
+    private interface IdQuery {
+        List<Integer> find(LocalDateTime since, Integer afterId, Pageable chunk);
+    }
+
+    public enum Format { NDJSON, JSON }
+
+    public CatalogExportService(JsonResponseWriters jsonWriters, PlatformTransactionManager transactionManager) {
+        this.jsonWriters = jsonWriters;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    // R: Returns the number of exported rows
+    // since: null for every row
+    public long exportDramas(LocalDateTime since, Format format, boolean displayNameMode, OutputStream out) throws IOException {
+        return export(dramaRepository::findIdsForExport, dramaRepository::findAllForExport, since, format, displayNameMode, out);
+    }
+
+    public long exportMovies(LocalDateTime since, Format format, boolean displayNameMode, OutputStream out) throws IOException {
+        return export(movieRepository::findIdsForExport, movieRepository::findAllForExport, since, format, displayNameMode, out);
+    }
+
+    public long exportActors(LocalDateTime since, Format format, boolean displayNameMode, OutputStream out) throws IOException {
+        return export(actorRepository::findIdsForExport, actorRepository::findAllForExport, since, format, displayNameMode, out);
+    }
+
+    private <T> long export(IdQuery idQuery, Function<List<Integer>, List<T>> rowQuery, LocalDateTime since, Format format,
+                            boolean displayNameMode, OutputStream out) throws IOException {
+        try {
+            // One transaction, so lazy collections can still be loaded while a chunk is written
+            Long count = readOnlyTemplate.execute(status -> {
+                try (SequenceWriter sequenceWriter = openWriter(format, displayNameMode, out)) {
+                    long written = 0;
+                    Integer afterId = 0;
+                    List<Integer> ids;
+                    while (!(ids = idQuery.find(since, afterId, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+                        for (T row : rowQuery.apply(ids)) {
+                            sequenceWriter.write(row); // Lazy collections of the whole chunk are loaded by the first row
+                            written++;
+                        }
+                        afterId = ids.get(ids.size() - 1);
+                        entityManager.clear();
+                        sequenceWriter.flush();
+                    }
+                    if (format == Format.NDJSON && written > 0) {
+                        sequenceWriter.flush();
+                        out.write('\n'); // Every line ends with a line break, including the last one
+                    }
+                    return written;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return count == null ? 0 : count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // e.g. the client closed the connection
+        }
+    }
+
+    private SequenceWriter openWriter(Format format, boolean displayNameMode, OutputStream out) throws IOException {
+        ObjectWriter writer = jsonWriters.writer(displayNameMode);
+        if (format == Format.NDJSON) {
+            return writer.withRootValueSeparator("\n").writeValues(out);
+        }
+        return writer.writeValuesAsArray(out);
+    }
+}
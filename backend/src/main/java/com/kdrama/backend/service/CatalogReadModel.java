@@ -0,0 +1,229 @@
+package com.kdrama.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.enums.ImportWorkType;
+import com.kdrama.backend.model.CatalogEntry;
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.model.Movie;
+import com.kdrama.backend.repository.CatalogEntryRepository;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.repository.MovieRepository;
+
+import jakarta.transaction.Transactional;
+
+// Denormalized read model of the dramas and movies (one CatalogEntry per work, refer to CatalogEntry.java)
+// - Written in the transaction that saves / deletes the work (DramaService.java, MovieService.java, TWOTTPlatformChangeFeed.java)
+// - The list and detail GET endpoints are served from it, as stored JSON or as records, without loading any Drama / Movie
+// - Works without an up-to-date entry (e.g. stored before the read model existed) get one on start; until that is done
+//   (or if it failed), isDramaListReady() / isMovieListReady() are false and the lists are served from the entities instead
+
+@Service
+public class CatalogReadModel {
+    @Autowired
+    private CatalogEntryRepository catalogEntryRepository;
+
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Value("${catalog.read-model.batch-size:100}")
+    private int batchSize;
+
+    // Has to be increased when the JSON of a work changes (e.g. a new field), so every entry is rebuilt on the next start
+    public static final int MODEL_VERSION = 1;
+
+    private final JsonResponseWriters jsonWriters;
+    private final TransactionTemplate transactionTemplate;
+
+    // Every work has an up-to-date entry; set once the rebuild on start succeeded, afterwards kept by the writes
+    private volatile boolean dramaListReady = false;
+    private volatile boolean movieListReady = false;
+
+    public CatalogReadModel(JsonResponseWriters jsonWriters, PlatformTransactionManager transactionManager) {
+        this.jsonWriters = jsonWriters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // C/U: Joins the transaction of the caller, so the entry is only changed if the work is
+    @Transactional
+    public void refreshDrama(Drama drama) {
+        if (drama == null || drama.getDramaId() == null) {
+            return;
+        }
+        CatalogEntry entry = entryOf(ImportWorkType.DRAMA, drama.getDramaId());
+        entry.setChineseName(drama.getChineseName());
+        entry.setEnglishName(drama.getEnglishName());
+        entry.setKoreanName(drama.getKoreanName());
+        entry.setReleaseYear(drama.getReleaseYear());
+        entry.setStatus(drama.getStatus());
+        entry.setMainPosterUrl(drama.getMainPosterUrl());
+        entry.setLastUpdatedByApi(drama.getLastUpdatedByApi());
+        save(entry, drama, drama.getGenres(), drama.getDramaTwPlatformMap());
+    }
+
+    @Transactional
+    public void refreshMovie(Movie movie) {
+        if (movie == null || movie.getMovieId() == null) {
+            return;
+        }
+        CatalogEntry entry = entryOf(ImportWorkType.MOVIE, movie.getMovieId());
+        entry.setChineseName(movie.getChineseName());
+        entry.setEnglishName(movie.getEnglishName());
+        entry.setKoreanName(movie.getKoreanName());
+        String releaseDate = movie.getReleaseDate();
+        entry.setReleaseYear(releaseDate != null && releaseDate.length() >= 4 ? releaseDate.substring(0, 4) : releaseDate);
+        entry.setMainPosterUrl(movie.getMainPosterUrl());
+        entry.setLastUpdatedByApi(movie.getLastUpdatedByApi());
+        save(entry, movie, movie.getGenres(), movie.getMovieTwPlatformMap());
+    }
+
+    // D
+    @Transactional
+    public void removeDrama(Integer dramaId) {
+        catalogEntryRepository.deleteByWork(ImportWorkType.DRAMA, dramaId);
+    }
+
+    @Transactional
+    public void removeMovie(Integer movieId) {
+        catalogEntryRepository.deleteByWork(ImportWorkType.MOVIE, movieId);
+    }
+
+    public boolean isDramaListReady() {
+        return dramaListReady;
+    }
+
+    public boolean isMovieListReady() {
+        return movieListReady;
+    }
+
+    // R1: Every drama as the JSON of /api/dramas/findAll, ordered by id
+    public List<String> getAllDramaJson(boolean displayNameMode) {
+        return displayNameMode
+            ? catalogEntryRepository.findAllDisplayNameJson(ImportWorkType.DRAMA)
+            : catalogEntryRepository.findAllNameJson(ImportWorkType.DRAMA);
+    }
+
+    // R2: One drama as the JSON of /api/dramas/{id}
+    public Optional<String> getDramaJson(Integer dramaId, boolean displayNameMode) {
+        return displayNameMode
+            ? catalogEntryRepository.findDisplayNameJson(ImportWorkType.DRAMA, dramaId)
+            : catalogEntryRepository.findNameJson(ImportWorkType.DRAMA, dramaId);
+    }
+
+    // R3: List view fields of every drama
+    public List<CatalogEntryRepository.Summary> getDramaSummaries() {
+        return catalogEntryRepository.findByWorkTypeOrderByWorkId(ImportWorkType.DRAMA);
+    }
+
+    public List<String> getAllMovieJson(boolean displayNameMode) {
+        return displayNameMode
+            ? catalogEntryRepository.findAllDisplayNameJson(ImportWorkType.MOVIE)
+            : catalogEntryRepository.findAllNameJson(ImportWorkType.MOVIE);
+    }
+
+    public Optional<String> getMovieJson(Integer movieId, boolean displayNameMode) {
+        return displayNameMode
+            ? catalogEntryRepository.findDisplayNameJson(ImportWorkType.MOVIE, movieId)
+            : catalogEntryRepository.findNameJson(ImportWorkType.MOVIE, movieId);
+    }
+
+    public List<CatalogEntryRepository.Summary> getMovieSummaries() {
+        return catalogEntryRepository.findByWorkTypeOrderByWorkId(ImportWorkType.MOVIE);
+    }
+
+    // Builds the missing / outdated entries, catalog.read-model.batch-size works per transaction
+    // Dramas and movies are rebuilt separately, so a failure of one still lets the other be served from the read model
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildStaleEntries() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Integer orphans = transactionTemplate.execute(status -> catalogEntryRepository.deleteOrphans());
+            if (orphans != null && orphans > 0) {
+                System.out.println("Catalog read model: " + orphans + " entries of deleted works removed");
+            }
+        } catch (Exception e) {
+            // Not needed by the reads: entries are looked up by the ids of existing works
+            System.err.println("Failed to remove the orphaned catalog read model entries: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        dramaListReady = rebuild("dramas", startTime, () -> catalogEntryRepository.findStaleDramaIds(MODEL_VERSION),
+            batch -> dramaRepository.findAllById(batch).forEach(this::refreshDrama));
+        movieListReady = rebuild("movies", startTime, () -> catalogEntryRepository.findStaleMovieIds(MODEL_VERSION),
+            batch -> movieRepository.findAllById(batch).forEach(this::refreshMovie));
+    }
+
+    // true if every work of this type has an up-to-date entry afterwards
+    private boolean rebuild(String workTypeName, long startTime, Supplier<List<Integer>> staleIds, Consumer<List<Integer>> refreshBatch) {
+        try {
+            List<Integer> ids = staleIds.get();
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Integer> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                transactionTemplate.executeWithoutResult(status -> refreshBatch.accept(batch));
+            }
+            if (!ids.isEmpty()) {
+                System.out.println("Catalog read model rebuilt: " + ids.size() + " " + workTypeName
+                    + " in " + (System.currentTimeMillis() - startTime) + " ms");
+            }
+            // Works stored during the rebuild (e.g. by another instance of an older version) are caught by the check again
+            List<Integer> remaining = staleIds.get();
+            if (!remaining.isEmpty()) {
+                System.err.println("ERROR: " + remaining.size() + " " + workTypeName + " still have no up-to-date catalog read model entry, "
+                    + "the " + workTypeName + " list is served from the database until the next start");
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("ERROR: Failed to rebuild the catalog read model of the " + workTypeName + ", "
+                + "the " + workTypeName + " list is served from the database until the next start: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private CatalogEntry entryOf(ImportWorkType workType, Integer workId) {
+        return catalogEntryRepository.findByWorkTypeAndWorkId(workType, workId).orElseGet(() -> {
+            CatalogEntry entry = new CatalogEntry();
+            entry.setWorkType(workType);
+            entry.setWorkId(workId);
+            return entry;
+        });
+    }
+
+    // work: the Drama / Movie, serialized while its lazy collections can still be loaded
+    private void save(CatalogEntry entry, Object work, List<String> genres, Map<String, String> platforms) {
+        try {
+            entry.setGenresJson(jsonWriters.writer(false).writeValueAsString(genres == null ? List.of() : genres));
+            // Sorted, so the entry does not depend on the order of the map
+            List<String> platformNames = platforms == null ? List.of() : new ArrayList<>(new TreeSet<>(platforms.keySet()));
+            entry.setPlatformsJson(jsonWriters.writer(false).writeValueAsString(platformNames));
+            entry.setDisplayNameJson(jsonWriters.writer(true).writeValueAsString(work));
+            entry.setNameJson(jsonWriters.writer(false).writeValueAsString(work));
+        } catch (JsonProcessingException e) {
+            // Thrown on, so the work is not saved without its entry
+            System.err.println("Failed to serialize " + entry.getWorkType() + " " + entry.getWorkId() + ": " + e.getMessage());
+            throw new IllegalStateException(e);
+        }
+        entry.setModelVersion(MODEL_VERSION);
+        catalogEntryRepository.save(entry);
+    }
+}
@@ -0,0 +1,227 @@
+package com.kdrama.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.model.Movie;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.repository.MovieRepository;
+import com.kdrama.backend.util.FacetBitmapIndex;
+
+// Faceted search over the stored dramas and movies (refer to FacetBitmapIndex.java)
+// - Facets of dramas: genre, network, status, krReleaseSchedule, platform; facets of movies: genre, platform
+// - The indexes are filled from the database on the first search, then kept up to date by DramaService.java,
+//   MovieService.java and TWOTTPlatformChangeFeed.java on every save, update and delete
+// - Changes made inside a transaction are applied to the index once it is committed
+// - Changes committed while an index is being filled are held back and applied after it, so a work read before its
+//   change (or a work deleted after it was read) cannot overwrite the change
+
+@Service
+public class CatalogSearchService {
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    public static final List<String> DRAMA_FACETS = List.of("genre", "network", "status", "krReleaseSchedule", "platform");
+    public static final List<String> MOVIE_FACETS = List.of("genre", "platform");
+
+    private final FacetBitmapIndex dramaIndex = new FacetBitmapIndex(DRAMA_FACETS);
+    private final FacetBitmapIndex movieIndex = new FacetBitmapIndex(MOVIE_FACETS);
+
+    // Filled on the first search; changes before it are indexed as well, and then overwritten by the stored works
+    private volatile boolean dramasLoaded = false;
+    private volatile boolean moviesLoaded = false;
+
+    // Not null while the index is being filled: the changes committed meanwhile, in the order of their commits
+    private List<Runnable> pendingDramaUpdates = null; // Guarded by dramaIndex
+    private List<Runnable> pendingMovieUpdates = null; // Guarded by movieIndex
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogSearchService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // items: the works of the ids, in the same order
+    public record SearchResult<T>(int total, List<T> items, Map<String, Map<String, Integer>> counts) {}
+
+    public SearchResult<Drama> searchDramas(List<List<FacetBitmapIndex.Term>> clauses, int offset, int limit) {
+        if (!dramasLoaded) {
+            loadDramas();
+        }
+        FacetBitmapIndex.Result result = dramaIndex.search(clauses, offset, limit);
+        return new SearchResult<>(result.total(), loadInOrder(result.ids(), dramaRepository::findAllById, Drama::getDramaId), result.counts());
+    }
+
+    public SearchResult<Movie> searchMovies(List<List<FacetBitmapIndex.Term>> clauses, int offset, int limit) {
+        if (!moviesLoaded) {
+            loadMovies();
+        }
+        FacetBitmapIndex.Result result = movieIndex.search(clauses, offset, limit);
+        return new SearchResult<>(result.total(), loadInOrder(result.ids(), movieRepository::findAllById, Movie::getMovieId), result.counts());
+    }
+
+    public boolean isDramaFacet(String facet) {
+        return dramaIndex.hasFacet(facet);
+    }
+
+    public boolean isMovieFacet(String facet) {
+        return movieIndex.hasFacet(facet);
+    }
+
+    public void indexDrama(Drama drama) {
+        if (drama == null || drama.getDramaId() == null) {
+            return;
+        }
+        Map<String, List<String>> values = facetValuesOf(drama); // Read now, the entity may change later
+        afterCommit(() -> updateDramaIndex(() -> dramaIndex.put(drama.getDramaId(), values)));
+    }
+
+    public void removeDrama(Integer dramaId) {
+        afterCommit(() -> updateDramaIndex(() -> dramaIndex.remove(dramaId)));
+    }
+
+    public void indexMovie(Movie movie) {
+        if (movie == null || movie.getMovieId() == null) {
+            return;
+        }
+        Map<String, List<String>> values = facetValuesOf(movie);
+        afterCommit(() -> updateMovieIndex(() -> movieIndex.put(movie.getMovieId(), values)));
+    }
+
+    public void removeMovie(Integer movieId) {
+        afterCommit(() -> updateMovieIndex(() -> movieIndex.remove(movieId)));
+    }
+
+    private void updateDramaIndex(Runnable update) {
+        synchronized (dramaIndex) {
+            if (pendingDramaUpdates != null) {
+                pendingDramaUpdates.add(update);
+                return;
+            }
+            update.run();
+        }
+    }
+
+    private void updateMovieIndex(Runnable update) {
+        synchronized (movieIndex) {
+            if (pendingMovieUpdates != null) {
+                pendingMovieUpdates.add(update);
+                return;
+            }
+            update.run();
+        }
+    }
+
+    private Map<String, List<String>> facetValuesOf(Drama drama) {
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("genre", drama.getGenres() != null ? List.copyOf(drama.getGenres()) : List.of());
+        values.put("network", drama.getNetworks() != null ? List.copyOf(drama.getNetworks()) : List.of());
+        values.put("status", drama.getStatus() != null ? List.of(drama.getStatus().name()) : List.of());
+        values.put("krReleaseSchedule", drama.getKrReleaseSchedule() != null ? List.of(drama.getKrReleaseSchedule().name()) : List.of());
+        values.put("platform", drama.getDramaTwPlatformMap() != null ? List.copyOf(drama.getDramaTwPlatformMap().keySet()) : List.of());
+        return values;
+    }
+
+    private Map<String, List<String>> facetValuesOf(Movie movie) {
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("genre", movie.getGenres() != null ? List.copyOf(movie.getGenres()) : List.of());
+        values.put("platform", movie.getMovieTwPlatformMap() != null ? List.copyOf(movie.getMovieTwPlatformMap().keySet()) : List.of());
+        return values;
+    }
+
+    private void afterCommit(Runnable indexUpdate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexUpdate.run();
+                }
+            });
+        } else {
+            indexUpdate.run();
+        }
+    }
+
+    private synchronized void loadDramas() {
+        if (dramasLoaded) {
+            return;
+        }
+        synchronized (dramaIndex) {
+            pendingDramaUpdates = new ArrayList<>();
+        }
+        try {
+            // In one transaction, so that the element collections can be read
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Drama drama : dramaRepository.findAll()) {
+                    dramaIndex.put(drama.getDramaId(), facetValuesOf(drama));
+                }
+            });
+        } finally {
+            // Also if the load failed, so the changes are not lost; the next search loads again
+            synchronized (dramaIndex) {
+                pendingDramaUpdates.forEach(Runnable::run);
+                pendingDramaUpdates = null;
+            }
+        }
+        dramaIndex.optimize();
+        dramasLoaded = true;
+        System.out.println("Drama search index built: " + dramaIndex.size() + " dramas");
+    }
+
+    private synchronized void loadMovies() {
+        if (moviesLoaded) {
+            return;
+        }
+        synchronized (movieIndex) {
+            pendingMovieUpdates = new ArrayList<>();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Movie movie : movieRepository.findAll()) {
+                    movieIndex.put(movie.getMovieId(), facetValuesOf(movie));
+                }
+            });
+        } finally {
+            synchronized (movieIndex) {
+                pendingMovieUpdates.forEach(Runnable::run);
+                pendingMovieUpdates = null;
+            }
+        }
+        movieIndex.optimize();
+        moviesLoaded = true;
+        System.out.println("Movie search index built: " + movieIndex.size() + " movies");
+    }
+
+    private <T> List<T> loadInOrder(int[] ids, Function<List<Integer>, List<T>> findAllById, Function<T, Integer> idOf) {
+        List<Integer> idList = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            idList.add(id);
+        }
+        Map<Integer, T> worksById = new HashMap<>();
+        for (T work : findAllById.apply(idList)) {
+            worksById.put(idOf.apply(work), work);
+        }
+        List<T> works = new ArrayList<>(ids.length);
+        for (Integer id : idList) {
+            if (worksById.containsKey(id)) {
+                works.add(worksById.get(id));
+            }
+        }
+        return works;
+    }
+}
@@ -0,0 +1,223 @@
+package com.kdrama.backend.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.kdrama.backend.model.Drama;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+// Staged import of a drama (used by DramaController.importDrama)
+// Stage 1: LLM season lookup || TMDB ID search
+// Stage 2: TMDB fills || LLM enrichment (aiUpdateDramaInfo) || OTT platform lookup
+// Merge:   the results of stage 2 are assembled into one Drama, which is then saved
+// Independent steps run at the same time on virtual threads, each with its own timeout; a timed-out step is interrupted
+// and whatever it returns later is ignored (it only ever writes to its own Drama copy)
+// As before the pipeline, the drama is not saved (404) if the TMDB fills or the platform lookup failed
+// Every stage is timed and published as the metric "drama.import.stage" (tag: stage), and returned with the result
+
+@Service
+public class DramaImportPipeline {
+
+    @Autowired
+    private DramaService dramaService;
+
+    @Autowired
+    private TmdbDramaClient tmdbDramaClient;
+
+    private final AiService aiService;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${import.pipeline.llm-timeout:90s}")
+    private Duration llmTimeout;
+
+    @Value("${import.pipeline.tmdb-timeout:30s}")
+    private Duration tmdbTimeout;
+
+    @Value("${import.pipeline.platform-timeout:180s}")
+    private Duration platformTimeout;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DramaImportPipeline(AiService aiService, MeterRegistry meterRegistry) {
+        this.aiService = aiService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public enum ImportStatus {
+        SAVED, CONFLICT, NOT_FOUND
+    }
+
+    // stageMillis: stage name -> elapsed time in milliseconds, in the order the stages finished
+    public record ImportResult(ImportStatus status, Drama drama, Map<String, Long> stageMillis) {}
+
+    public ImportResult importDrama(String chineseName) {
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+
+        // Check if the drama already exists in database
+        if (dramaService.getDramaByChineseName(chineseName).isPresent()) {
+            return new ImportResult(ImportStatus.CONFLICT, null, snapshot(stageMillis));
+        }
+
+        // Stage 1: season number (LLM) and TMDB ID (TMDB search) do not depend on each other
+        CompletableFuture<Integer> seasonNumberFuture = runStage("seasonNumber", llmTimeout, stageMillis,
+            () -> aiService.aiGetDramaSeasonNumber(chineseName));
+        CompletableFuture<Integer> tmdbIdFuture = runStage("tmdbId", tmdbTimeout, stageMillis, () -> {
+            try {
+                return tmdbDramaClient.getDramaTmdbIdByDramaName(chineseName);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Integer tmdbId = tmdbIdFuture.join();
+        if (tmdbId == null) {
+            // Same fallback as DramaService.fillDramaBasicInfo()
+            tmdbId = runStage("tmdbIdByAi", llmTimeout, stageMillis, () -> aiService.aiGetDramaTmdbId(chineseName)).join();
+        }
+        Integer seasonNumber = seasonNumberFuture.join();
+        if (tmdbId == null) {
+            return new ImportResult(ImportStatus.NOT_FOUND, null, snapshot(stageMillis));
+        }
+
+        // Check if the drama already exists in database
+        Optional<Drama> optionalExistingDrama = dramaService.getDramaByTmdbIdAndSeasonNumber(tmdbId, seasonNumber);
+        if (optionalExistingDrama.isPresent()) {
+            return new ImportResult(ImportStatus.CONFLICT, null, snapshot(stageMillis));
+        }
+
+        // Stage 2: each branch works on its own copy, so nothing is shared between threads until the merge
+        Drama tmdbDrama = newDrama(chineseName, tmdbId, seasonNumber);
+        Drama aiDrama = newDrama(chineseName, tmdbId, seasonNumber);
+        Drama platformDrama = newDrama(chineseName, tmdbId, seasonNumber);
+
+        CompletableFuture<Drama> tmdbFuture = runStage("tmdbFill", tmdbTimeout, stageMillis,
+            () -> dramaService.fillDramaMoreInfo(tmdbDrama, null));
+        CompletableFuture<Drama> aiFuture = runStage("aiEnrichment", llmTimeout, stageMillis,
+            () -> aiService.aiUpdateDramaInfo(aiDrama));
+        // The platform lookup starts with the requested name; it is repeated below if the LLM corrects the name
+        CompletableFuture<Drama> platformFuture = runStage("platformLookup", platformTimeout, stageMillis,
+            () -> dramaService.fillTWPlatformInformation(platformDrama));
+
+        Drama drama = tmdbFuture.join();
+        if (drama == null) {
+            return new ImportResult(ImportStatus.NOT_FOUND, null, snapshot(stageMillis));
+        }
+
+        // Merge: fields from the LLM enrichment
+        long mergeStart = System.nanoTime();
+        Drama enriched = aiFuture.join();
+        if (enriched != null) {
+            copyAiFields(enriched, drama);
+        }
+        recordStage("merge", mergeStart, stageMillis);
+
+        // Merge: platform information (looked up again only if the official Chinese name changed)
+        Drama platformResult = platformFuture.join();
+        if (!chineseName.equals(drama.getChineseName())) {
+            Drama retryDrama = newDrama(drama.getChineseName(), tmdbId, seasonNumber);
+            platformResult = runStage("platformLookupRetry", platformTimeout, stageMillis,
+                () -> dramaService.fillTWPlatformInformation(retryDrama)).join();
+        }
+        if (platformResult == null) {
+            System.err.println("Platform information of " + drama.getChineseName() + " could not be filled");
+            return new ImportResult(ImportStatus.NOT_FOUND, null, snapshot(stageMillis));
+        }
+        drama.setDramaTwPlatformMap(platformResult.getDramaTwPlatformMap());
+        drama.setLastUpdatedByApi(platformResult.getLastUpdatedByApi());
+
+        long saveStart = System.nanoTime();
+        Drama savedDrama = dramaService.saveDrama(drama);
+        recordStage("save", saveStart, stageMillis);
+
+        Map<String, Long> timings = snapshot(stageMillis);
+        System.out.println("Imported " + savedDrama.getChineseName() + ", stage timings (ms): " + timings);
+        return new ImportResult(ImportStatus.SAVED, savedDrama, timings);
+    }
+
+    // Runs one stage on a virtual thread; a stage that fails or times out yields null, like the sequential methods did
+    private <T> CompletableFuture<T> runStage(String stage, Duration timeout, Map<String, Long> stageMillis, Supplier<T> task) {
+        long start = System.nanoTime();
+        CompletableFuture<T> stageFuture = new CompletableFuture<>();
+        Future<?> stageThread = executor.submit(() -> {
+            try {
+                stageFuture.complete(task.get()); // Ignored once the stage timed out
+            } catch (Throwable e) {
+                stageFuture.completeExceptionally(e);
+            }
+        });
+        return stageFuture
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((result, error) -> {
+                recordStage(stage, start, stageMillis);
+                if (error != null) {
+                    stageThread.cancel(true); // Interrupts e.g. a blocked HTTP call of the stage
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        System.err.println("Import stage " + stage + " timed out after " + timeout.toSeconds() + "s");
+                    } else {
+                        System.err.println("Import stage " + stage + " failed: " + cause.getMessage());
+                    }
+                    return null;
+                }
+                return result;
+            });
+    }
+
+    private void recordStage(String stage, long startNanos, Map<String, Long> stageMillis) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder("drama.import.stage")
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        synchronized (stageMillis) {
+            stageMillis.put(stage, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    // Stages that are still running (e.g. after an early return) may keep writing to stageMillis
+    private Map<String, Long> snapshot(Map<String, Long> stageMillis) {
+        synchronized (stageMillis) {
+            return new LinkedHashMap<>(stageMillis);
+        }
+    }
+
+    // Only the fields that AiService.aiUpdateDramaInfo() sets
+    private void copyAiFields(Drama source, Drama target) {
+        target.setChineseName(source.getChineseName());
+        target.setEnglishName(source.getEnglishName());
+        target.setKoreanName(source.getKoreanName());
+        target.setTrailerUrl(source.getTrailerUrl());
+        target.setChineseWikipediaPageUrl(source.getChineseWikipediaPageUrl());
+        target.setNamuWikiPageUrl(source.getNamuWikiPageUrl());
+    }
+
+    private Drama newDrama(String chineseName, Integer tmdbId, Integer seasonNumber) {
+        Drama drama = new Drama();
+        drama.setChineseName(chineseName);
+        drama.setTmdbId(tmdbId);
+        drama.setSeasonNumber(seasonNumber);
+        return drama;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
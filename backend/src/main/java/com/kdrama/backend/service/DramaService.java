@@ -5,14 +5,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kdrama.backend.model.*;
 import com.kdrama.backend.repository.*;
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.KRReleaseSchedule;
+import com.kdrama.backend.util.KeysetPagination;
+import com.kdrama.backend.util.TmdbContentHash;
 
 import jakarta.transaction.Transactional;
 
@@ -37,6 +44,15 @@ public class DramaService {
     @Autowired
     private TmdbPlatformClient tmdbPlatformClient;
 
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
     private final AiService aiService;
 
     private final ObjectMapper objectMapper;
@@ -73,10 +89,18 @@ public class DramaService {
     // searchedActorName is passed by TmdbActorClient.java
     public Drama fillDramaMoreInfo(Drama drama, String searchedActorName) {
         try {
-            drama = tmdbDramaClient.fillDramaOtherInfo(drama);
-            drama = tmdbDramaClient.fillDramaSeasonalInfo(drama);
-            drama = tmdbDramaClient.fillKrAgeRestriction(drama);
-            drama = tmdbDramaClient.fillDramaStaff(drama, searchedActorName);
+            if (drama == null) {
+                return null;
+            }
+            // One TMDB request (append_to_response) shared by all the fill methods
+            JsonNode dramaDocument = tmdbDramaClient.fetchDramaDocument(drama.getTmdbId(), drama.getSeasonNumber());
+            drama = tmdbDramaClient.fillDramaOtherInfo(drama, dramaDocument);
+            drama = tmdbDramaClient.fillDramaSeasonalInfo(drama, dramaDocument);
+            drama = tmdbDramaClient.fillKrAgeRestriction(drama, dramaDocument);
+            drama = tmdbDramaClient.fillDramaStaff(drama, searchedActorName, dramaDocument);
+            if (drama != null) {
+                drama.setTmdbContentHash(TmdbContentHash.ofDrama(dramaDocument, drama.getSeasonNumber()));
+            }
             return drama;     
 		} catch (Exception e) {
 			System.err.println("Exception Occurred!" + e.getMessage());
@@ -118,9 +142,13 @@ public class DramaService {
         }
     }
    
-    // C2: Save a drama
+    // C2: Save a drama, together with its read model entry (refer to CatalogReadModel.java)
+    @Transactional
     public Drama saveDrama(@RequestBody Drama drama) {
-        return dramaRepository.save(drama);
+        Drama savedDrama = dramaRepository.save(drama);
+        catalogReadModel.refreshDrama(savedDrama);
+        catalogSearchService.indexDrama(savedDrama);
+        return savedDrama;
     }
 
     // C-Bonus: Check if the TV Show is a drama
@@ -151,6 +179,28 @@ public class DramaService {
         return dramaRepository.findAll();
     }
 
+    public static final Set<String> SORT_KEYS = Set.of("chineseName", "releaseYear", "lastUpdatedByApi");
+
+    // null: not filtered by this field
+    public record DramaFilter(String genre, String network, DramaStatus status, KRReleaseSchedule krReleaseSchedule,
+                              String releaseYear, String platform) {}
+
+    // R1-1: Get one page of the dramas matching the filter (keyset pagination, refer to KeysetPagination.java)
+    public KeysetPagination.Page<Drama> findDramas(DramaFilter filter, KeysetPagination.Request page) {
+        Specification<Drama> specification = CatalogSpecifications.allOf(
+            CatalogSpecifications.hasElement("genres", filter.genre()),
+            CatalogSpecifications.hasElement("networks", filter.network()),
+            CatalogSpecifications.hasValue("status", filter.status()),
+            CatalogSpecifications.hasValue("krReleaseSchedule", filter.krReleaseSchedule()),
+            CatalogSpecifications.releasedIn("releaseYear", filter.releaseYear()),
+            CatalogSpecifications.hasKey("dramaTwPlatformMap", filter.platform()),
+            KeysetPagination.after(page, "dramaId"));
+
+        List<Drama> rows = dramaRepository.findBy(specification,
+            query -> query.sortBy(KeysetPagination.sort(page, "dramaId")).limit(page.size() + 1).all());
+        return KeysetPagination.page(rows, page, "dramaId");
+    }
+
     // R2: Get information of a drama identified by id
     public Optional<Drama> getDramaById(@PathVariable Integer id) {
         return dramaRepository.findById(id);
@@ -177,8 +227,9 @@ public class DramaService {
     }
 
     // U: Update a drama
+    @Transactional
     public Drama updateDrama(@PathVariable Integer id, @RequestBody Drama dramaToUpdate, boolean apiMode) {
-        return dramaRepository.findById(id)
+        Drama updatedDrama = dramaRepository.findById(id)
                 .map(drama -> {
                     drama.setTmdbId(dramaToUpdate.getTmdbId());
                     drama.setSeasonNumber(dramaToUpdate.getSeasonNumber());
@@ -209,12 +260,20 @@ public class DramaService {
                         drama.setAiOrManuallyEdited(dramaToUpdate.isAiOrManuallyEdited());
                     }
                     drama.setLastUpdatedByApi(dramaToUpdate.getLastUpdatedByApi());
+                    // Only present when dramaToUpdate comes from the TMDB sync (the hash is not read from request bodies)
+                    if (dramaToUpdate.getTmdbContentHash() != null) {
+                        drama.setTmdbContentHash(dramaToUpdate.getTmdbContentHash());
+                    }
                     return dramaRepository.save(drama);
                 })
                 .orElseGet(() -> {
                     dramaToUpdate.setDramaId(id);
                     return dramaRepository.save(dramaToUpdate);
                 });
+        catalogReadModel.refreshDrama(updatedDrama);
+        catalogSearchService.indexDrama(updatedDrama);
+        catalogCache.evictDrama(updatedDrama.getDramaId()); // Once committed, refer to CatalogCache.java
+        return updatedDrama;
     }
 
     // D: Delete a drama
@@ -236,6 +295,9 @@ public class DramaService {
 
         // Then, safely delete the drama
         dramaRepository.deleteById(id);
+        catalogReadModel.removeDrama(id);
+        catalogSearchService.removeDrama(id);
+        catalogCache.evictDeletedDrama(id);
     }
 
     // D-Bonus: Check if a drama exists in database before deletion
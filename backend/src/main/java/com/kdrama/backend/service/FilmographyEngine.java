@@ -0,0 +1,380 @@
+package com.kdrama.backend.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kdrama.backend.model.*;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Parallel walk of an actor's filmography (used by TmdbActorClient.fillActorWorks)
+// - Every credit (and every season of a drama) is handled as a separate task on a bounded pool
+// - TMDB, LLM, OTT platform scraping and database calls each have their own concurrency limit (filmography.*-permits)
+// - A drama season / movie that another walk is already enriching and saving is not done twice:
+//   the second walk waits for the first one's result instead (e.g. two actors of the same drama imported at once)
+// - Results are handed back on the calling thread as soon as each work completes, so the actor-work relationships
+//   are only changed by the thread (and Hibernate session) that owns the actor
+// - Incremental mode: an existing work whose TMDB document hash (refer to TmdbContentHash.java) is the same as
+//   the stored one is linked as is, without the LLM, the OTT platform scraper and the database update
+
+@Component
+public class FilmographyEngine {
+
+    @Autowired
+    private DramaService dramaService;
+
+    @Autowired
+    private MovieService movieService;
+
+    private final AiService aiService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${filmography.workers:4}")
+    private int workers;
+
+    @Value("${filmography.tmdb-permits:4}")
+    private int tmdbPermitCount;
+
+    @Value("${filmography.llm-permits:2}")
+    private int llmPermitCount;
+
+    @Value("${filmography.db-permits:2}")
+    private int dbPermitCount;
+
+    // The scraper opens a browser window per platform, so it runs one lookup at a time by default
+    @Value("${filmography.scraper-permits:1}")
+    private int scraperPermitCount;
+
+    private ExecutorService executor;
+    private Semaphore tmdbPermits;
+    private Semaphore llmPermits;
+    private Semaphore dbPermits;
+    private Semaphore scraperPermits;
+
+    // Works being enriched and saved right now, shared by all walks: "drama:{tmdbId}:{season}" / "movie:{tmdbId}"
+    private final Map<String, CompletableFuture<WorkResult>> worksInProgress = new ConcurrentHashMap<>();
+
+    public FilmographyEngine(AiService aiService, PlatformTransactionManager transactionManager) {
+        this.aiService = aiService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public enum Outcome {
+        SAVED,    // New work saved
+        UPDATED,  // Existing work updated
+        EXISTING, // Existing work used as is
+        UNCHANGED, // Existing work used as is, because its TMDB content did not change since the last sync (incremental mode)
+        SKIPPED,  // Not imported (e.g. the actor is not a lead actor, or existing works are not updated)
+        FAILED
+    }
+
+    // drama / movie: the saved entity (null if there is nothing to link to the actor)
+    public record WorkResult(String mediaType, Integer tmdbId, Integer seasonNumber, String title, Outcome outcome, Drama drama, Movie movie) {}
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(Math.max(1, workers), Thread.ofVirtual().name("filmography-", 0).factory());
+        tmdbPermits = new Semaphore(Math.max(1, tmdbPermitCount));
+        llmPermits = new Semaphore(Math.max(1, llmPermitCount));
+        dbPermits = new Semaphore(Math.max(1, dbPermitCount));
+        scraperPermits = new Semaphore(Math.max(1, scraperPermitCount));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // workNodes: "cast" of /person/{id}/combined_credits
+    // listener is called on the calling thread for every finished work, in completion order
+    public void walk(Actor actor, JsonNode workNodes, boolean includesExistingWork, Consumer<WorkResult> listener) throws InterruptedException {
+        walk(actor, workNodes, includesExistingWork, false, listener);
+    }
+
+    // incremental: only used with includesExistingWork, existing works are refreshed only if their TMDB content changed
+    public void walk(Actor actor, JsonNode workNodes, boolean includesExistingWork, boolean incremental, Consumer<WorkResult> listener) throws InterruptedException {
+        BlockingQueue<Optional<WorkResult>> completed = new LinkedBlockingQueue<>();
+        AtomicInteger pending = new AtomicInteger();
+        String actorName = actor.getChineseName();
+
+        // The same work can be listed more than once (e.g. several characters in one drama)
+        Set<String> seenWorks = new HashSet<>();
+
+        for (JsonNode workNode : workNodes) {
+            String mediaType = workNode.path("media_type").asText();
+            Integer tmdbWorkId = workNode.path("id").asInt();
+            if (!seenWorks.add(mediaType + ":" + tmdbWorkId)) {
+                continue;
+            }
+
+            if (mediaType.equals("movie")) {
+                String title = workNode.path("title").asText();
+                fanOut(pending, completed, () -> processMovie(tmdbWorkId, title, includesExistingWork, incremental));
+            }
+            else if (mediaType.equals("tv")) {
+                String name = workNode.path("name").asText();
+                fanOut(pending, completed, () -> expandDrama(tmdbWorkId, name, actorName, includesExistingWork, incremental, pending, completed));
+            }
+        }
+
+        // Seasons are added to "pending" before the task that found them completes, so this only ends when everything is done
+        while (pending.get() > 0) {
+            Optional<WorkResult> result = completed.take();
+            pending.decrementAndGet();
+            if (result.isPresent()) {
+                link(actor, result.get());
+                listener.accept(result.get());
+            }
+        }
+    }
+
+    private void fanOut(AtomicInteger pending, BlockingQueue<Optional<WorkResult>> completed, Supplier<CompletableFuture<WorkResult>> task) {
+        pending.incrementAndGet();
+        CompletableFuture.supplyAsync(task, executor)
+            .thenCompose(future -> future)
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    System.out.println("Exception Occurred!" + error.getMessage());
+                    error.printStackTrace();
+                }
+                completed.add(Optional.ofNullable(result));
+            });
+    }
+
+    // TV credit: check that it is a drama, then handle every season as its own task
+    private CompletableFuture<WorkResult> expandDrama(Integer tmdbWorkId, String name, String actorName, boolean includesExistingWork,
+                                                      boolean incremental, AtomicInteger pending, BlockingQueue<Optional<WorkResult>> completed) {
+        if (!withPermit(tmdbPermits, () -> dramaService.isDrama(tmdbWorkId))) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Integer totalSeasons = withPermit(tmdbPermits, () -> dramaService.getDramaSeasonCount(tmdbWorkId));
+        if (totalSeasons == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        for (int season = 1; season <= totalSeasons; season++) {
+            int seasonNumber = season;
+            fanOut(pending, completed, () -> processDramaSeason(tmdbWorkId, seasonNumber, name, actorName, includesExistingWork, incremental));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<WorkResult> processDramaSeason(Integer tmdbWorkId, int season, String name, String actorName,
+                                                             boolean includesExistingWork, boolean incremental) {
+        Drama drama = new Drama();
+        drama.setTmdbId(tmdbWorkId);
+        drama.setSeasonNumber(season);
+        drama.setChineseName(name + " - 第" + season + "季");
+
+        // TMDB responses are cached and coalesced, so this check is cheap even when another walk handles the same season
+        Drama filledDrama = withPermit(tmdbPermits, () -> dramaService.fillDramaMoreInfo(drama, actorName));
+        if (filledDrama == null) {
+            System.out.println("Drama fetch failed or skipped for tmdbId: " + tmdbWorkId + ", season: " + season);
+            return CompletableFuture.completedFuture(new WorkResult("tv", tmdbWorkId, season, drama.getChineseName(), Outcome.SKIPPED, null, null));
+        }
+
+        return shared("drama:" + tmdbWorkId + ":" + season + ":" + modeOf(includesExistingWork, incremental),
+            () -> saveDramaSeason(filledDrama, includesExistingWork, incremental));
+    }
+
+    private WorkResult saveDramaSeason(Drama filledDrama, boolean includesExistingWork, boolean incremental) {
+        Integer tmdbWorkId = filledDrama.getTmdbId();
+        Integer season = filledDrama.getSeasonNumber();
+        String title = filledDrama.getChineseName();
+
+        Optional<Drama> existingDramaOpt = inTransaction(() -> dramaService.getDramaByTmdbIdAndSeasonNumber(tmdbWorkId, season).map(this::initializeDrama));
+        if (existingDramaOpt.isPresent() && !includesExistingWork) {
+            return new WorkResult("tv", tmdbWorkId, season, title, Outcome.SKIPPED, null, null);
+        }
+        if (existingDramaOpt.isPresent() && incremental && isUnchanged(existingDramaOpt.get().getTmdbContentHash(), filledDrama.getTmdbContentHash())) {
+            Drama existingDrama = existingDramaOpt.get();
+            return new WorkResult("tv", tmdbWorkId, season, existingDrama.getChineseName(), Outcome.UNCHANGED, existingDrama, null);
+        }
+
+        Drama enrichedDrama = withPermit(llmPermits, () -> aiService.aiUpdateDramaInfo(filledDrama));
+        Drama dramaWithPlatforms = withPermit(scraperPermits, () -> dramaService.fillTWPlatformInformation(enrichedDrama));
+        if (dramaWithPlatforms == null) {
+            System.out.println("Drama fetch failed or skipped for tmdbId: " + tmdbWorkId + ", season: " + season);
+            return new WorkResult("tv", tmdbWorkId, season, title, Outcome.FAILED, null, null);
+        }
+
+        if (existingDramaOpt.isPresent()) {
+            Integer existingDramaId = existingDramaOpt.get().getDramaId();
+            Drama savedDrama = inTransaction(() -> initializeDrama(dramaService.updateDrama(existingDramaId, dramaWithPlatforms, false)));
+            return new WorkResult("tv", tmdbWorkId, season, savedDrama.getChineseName(), Outcome.UPDATED, savedDrama, null);
+        }
+        Drama savedDrama = inTransaction(() -> dramaService.saveDrama(dramaWithPlatforms));
+        return new WorkResult("tv", tmdbWorkId, season, savedDrama.getChineseName(), Outcome.SAVED, savedDrama, null);
+    }
+
+    private CompletableFuture<WorkResult> processMovie(Integer tmdbWorkId, String title, boolean includesExistingWork, boolean incremental) {
+        return shared("movie:" + tmdbWorkId + ":" + modeOf(includesExistingWork, incremental),
+            () -> saveMovie(tmdbWorkId, title, includesExistingWork, incremental));
+    }
+
+    private WorkResult saveMovie(Integer tmdbWorkId, String title, boolean includesExistingWork, boolean incremental) {
+        Optional<Movie> optionalMovie = inTransaction(() -> movieService.getMovieByTmdbId(tmdbWorkId).map(this::initializeMovie));
+        if (optionalMovie.isPresent() && !includesExistingWork) { // Skip existing work
+            return new WorkResult("movie", tmdbWorkId, null, title, Outcome.EXISTING, null, optionalMovie.get());
+        }
+
+        Movie movie = new Movie();
+        movie.setTmdbId(tmdbWorkId);
+        movie.setChineseName(title);
+        Movie filledMovie = withPermit(tmdbPermits, () -> movieService.fillMovieMoreInfo(movie));
+        if (filledMovie == null) {
+            System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
+            return new WorkResult("movie", tmdbWorkId, null, title, Outcome.SKIPPED, null, null);
+        }
+        if (optionalMovie.isPresent() && incremental && isUnchanged(optionalMovie.get().getTmdbContentHash(), filledMovie.getTmdbContentHash())) {
+            Movie existingMovie = optionalMovie.get();
+            return new WorkResult("movie", tmdbWorkId, null, existingMovie.getChineseName(), Outcome.UNCHANGED, null, existingMovie);
+        }
+
+        Movie enrichedMovie = withPermit(llmPermits, () -> aiService.aiUpdateMovieInfo(filledMovie));
+        Movie movieWithPlatforms = withPermit(scraperPermits, () -> movieService.fillTWPlatformInformation(enrichedMovie));
+        if (movieWithPlatforms == null) {
+            System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
+            return new WorkResult("movie", tmdbWorkId, null, title, Outcome.FAILED, null, null);
+        }
+
+        if (optionalMovie.isPresent()) { // Update existing work as well
+            Integer existingMovieId = optionalMovie.get().getMovieId();
+            Movie savedMovie = inTransaction(() -> initializeMovie(movieService.updateMovie(existingMovieId, movieWithPlatforms, true)));
+            return new WorkResult("movie", tmdbWorkId, null, savedMovie.getChineseName(), Outcome.UPDATED, null, savedMovie);
+        }
+        Movie savedMovie = inTransaction(() -> movieService.saveMovie(movieWithPlatforms));
+        return new WorkResult("movie", tmdbWorkId, null, savedMovie.getChineseName(), Outcome.SAVED, null, savedMovie);
+    }
+
+    // Only establish new relationships if:
+    // 1. The relationship between the work and the actor has not been established yet
+    // 2. The list of lead actors of the work does include this actor
+    private void link(Actor actor, WorkResult result) {
+        if (result.drama() != null) {
+            Drama drama = result.drama();
+            try {
+                if (!actor.getDramas().contains(drama) && drama.getLeadActors().contains(actor.getChineseName())) {
+                    actor.getDramas().add(drama);
+                }
+            } catch (Exception e) {
+                System.out.println("Exception occurred at drama: " + drama.getChineseName());
+                e.printStackTrace();
+            }
+        }
+        if (result.movie() != null) {
+            Movie movie = result.movie();
+            try {
+                if (!actor.getMovies().contains(movie) && movie.getLeadActors().contains(actor.getChineseName())) {
+                    actor.getMovies().add(movie);
+                }
+            } catch (Exception e) {
+                System.out.println("Exception occurred at movie: " + movie.getChineseName());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // Works saved before content hashes were stored have no hash yet, so they are always refreshed once
+    private boolean isUnchanged(String storedHash, String currentHash) {
+        return storedHash != null && storedHash.equals(currentHash);
+    }
+
+    // Part of the key of shared(): a walk that refreshes existing works must not get the SKIPPED result of a walk
+    // that skips them, and a full refresh must not get the UNCHANGED result of an incremental one
+    private static String modeOf(boolean includesExistingWork, boolean incremental) {
+        if (!includesExistingWork) {
+            return "new";
+        }
+        return incremental ? "incremental" : "full";
+    }
+
+    // The first walk that asks for a work (in the same mode) runs it; walks asking while it is running get the same future
+    private CompletableFuture<WorkResult> shared(String workKey, Supplier<WorkResult> work) {
+        CompletableFuture<WorkResult> created = new CompletableFuture<>();
+        CompletableFuture<WorkResult> existing = worksInProgress.putIfAbsent(workKey, created);
+        if (existing != null) {
+            System.out.println(workKey + " is already being imported, waiting for its result");
+            return existing;
+        }
+
+        try {
+            created.complete(work.get());
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+        } finally {
+            worksInProgress.remove(workKey, created);
+        }
+        return created;
+    }
+
+    private <T> T withPermit(Semaphore permits, Supplier<T> call) {
+        permits.acquireUninterruptibly();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Worker threads have no Hibernate session of their own, so database calls run in short transactions
+    private <T> T inTransaction(Supplier<T> call) {
+        return withPermit(dbPermits, () -> transactionTemplate.execute(status -> call.get()));
+    }
+
+    // Initialization of sizes to prevent LazyInitializationException once the transaction is over
+    private Drama initializeDrama(Drama drama) {
+        if (drama != null) {
+            touch(drama.getGenres());
+            touch(drama.getNetworks());
+            touch(drama.getLeadActors());
+            touch(drama.getDirectorNames());
+            touch(drama.getScriptwriterNames());
+            if (drama.getDramaTwPlatformMap() != null) {
+                drama.getDramaTwPlatformMap().size();
+            }
+        }
+        return drama;
+    }
+
+    private Movie initializeMovie(Movie movie) {
+        if (movie != null) {
+            touch(movie.getGenres());
+            touch(movie.getLeadActors());
+            touch(movie.getDirectorNames());
+            touch(movie.getScriptwriterNames());
+            if (movie.getMovieTwPlatformMap() != null) {
+                movie.getMovieTwPlatformMap().size();
+            }
+        }
+        return movie;
+    }
+
+    private void touch(Collection<?> collection) {
+        if (collection != null) {
+            collection.size();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.kdrama.backend.service;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Bounded pool of reusable Chrome sessions for TWOTTPlatformScraper.java
+// - At most scraper.browser-pool-size browsers are open at the same time; they are started on demand and reused
+// - The chromedriver binary is resolved by WebDriverManager once per process, not once per platform
+// - A browser that failed is closed instead of being returned to the pool
+
+@Component
+public class HeadlessBrowserPool {
+
+    @Value("${scraper.browser-pool-size:2}")
+    private int poolSize;
+
+    @Value("${scraper.headless:true}")
+    private boolean headless;
+
+    private Semaphore available;
+    private final BlockingQueue<WebDriver> idleBrowsers = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> allBrowsers = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean driverResolved = false;
+
+    @PostConstruct
+    public void init() {
+        available = new Semaphore(Math.max(1, poolSize));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (WebDriver browser : allBrowsers) {
+            quietlyQuit(browser);
+        }
+        allBrowsers.clear();
+        idleBrowsers.clear();
+    }
+
+    // Waits until a browser is free; it has to be given back with release()
+    public WebDriver borrow() throws InterruptedException {
+        available.acquire();
+        try {
+            WebDriver browser = idleBrowsers.poll();
+            return browser != null ? browser : startBrowser();
+        } catch (RuntimeException e) {
+            available.release();
+            throw e;
+        }
+    }
+
+    // broken: the session failed (e.g. the browser crashed), so it is closed rather than reused
+    public void release(WebDriver browser, boolean broken) {
+        try {
+            if (broken) {
+                discard(browser);
+                return;
+            }
+            try {
+                // Leave nothing of the previous platform behind for the next one
+                browser.manage().deleteAllCookies();
+                browser.get("about:blank");
+                idleBrowsers.add(browser);
+            } catch (Exception e) {
+                discard(browser);
+            }
+        } finally {
+            available.release();
+        }
+    }
+
+    private WebDriver startBrowser() {
+        resolveDriver();
+
+        ChromeOptions options = new ChromeOptions();
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--window-size=1920,1080", "--disable-gpu", "--disable-dev-shm-usage");
+
+        WebDriver browser = new ChromeDriver(options);
+        allBrowsers.add(browser);
+        System.out.println("Started browser " + allBrowsers.size() + "/" + poolSize + " for scraping");
+        return browser;
+    }
+
+    private void resolveDriver() {
+        if (!driverResolved) {
+            synchronized (this) {
+                if (!driverResolved) {
+                    WebDriverManager.chromedriver().setup();
+                    driverResolved = true;
+                }
+            }
+        }
+    }
+
+    private void discard(WebDriver browser) {
+        allBrowsers.remove(browser);
+        quietlyQuit(browser);
+    }
+
+    private void quietlyQuit(WebDriver browser) {
+        try {
+            browser.quit();
+        } catch (Exception e) {
+            System.err.println("Failed to close browser: " + e.getMessage());
+        }
+    }
+}
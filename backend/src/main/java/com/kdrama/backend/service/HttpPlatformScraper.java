@@ -0,0 +1,176 @@
+package com.kdrama.backend.service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kdrama.backend.config.TWOTTPlatformConfig;
+
+// Scraper backend without a browser, for OTT platforms whose lists are in the HTML sent by the server
+// (TWOTTPlatformConfig.scraperBackend = HTTP)
+// - Pages are parsed while they are downloaded (jsoup StreamParser); titles and links are found with the same
+//   CSS selectors as the browser backend, and paired by their order on the page
+// - Pagination is done by URL: pageUrlTemplate with {page} if set, otherwise the href of the next page button
+// - Ends at the first page without any new title, or when there is no next page
+// - The result is incomplete (so the browser backend is used instead) if a next page button could not be followed
+//   (e.g. href="javascript:void(0)"), a page URL came back again, MAX_PAGES was reached, or no works were found at all
+
+@Component
+public class HttpPlatformScraper {
+
+    // complete: false if there may be pages that were not scraped
+    public record Result(Map<String, String> works, int pageCount, boolean complete) {}
+
+    // Works and the next page URL found on one page
+    // unfollowableNextPage: a next page button was found, but without a URL that can be requested
+    private record Page(List<String> titles, List<String> links, String nextPageUrl, boolean unfollowableNextPage) {}
+
+    private static final int MAX_PAGES = 200;
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/140.0 Safari/537.36";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    // Pause between two pages of the same platform
+    private final Duration pageDelay;
+
+    @Autowired
+    public HttpPlatformScraper(@Value("${scraper.http.page-delay:1s}") Duration pageDelay) {
+        this.pageDelay = pageDelay;
+    }
+
+    public Result scrape(TWOTTPlatformConfig platformConfig) throws Exception {
+        return scrape(platformConfig, pageTitles -> false);
+    }
+
+    // stopAfterPage: called with the titles first seen on every page; scraping ends when it returns true
+    public Result scrape(TWOTTPlatformConfig platformConfig, Predicate<List<String>> stopAfterPage) throws Exception {
+        Map<String, String> allWorksOnPlatform = new LinkedHashMap<>();
+        Set<String> visitedUrls = new HashSet<>();
+        String pageUrl = platformConfig.getSearchUrl();
+        int pageNumber = 1;
+        int pageCount = 0;
+        boolean complete = false;
+
+        while (pageUrl != null) {
+            if (pageCount >= MAX_PAGES) {
+                System.out.println(platformConfig.getName() + ": stopped at " + MAX_PAGES + " pages");
+                break;
+            }
+            if (!visitedUrls.add(pageUrl)) {
+                System.out.println(platformConfig.getName() + ": " + pageUrl + " was scraped already");
+                break;
+            }
+            if (pageCount > 0 && !pageDelay.isZero()) {
+                Thread.sleep(pageDelay.toMillis());
+            }
+
+            Page page = fetchPage(pageUrl, platformConfig);
+            pageCount++;
+
+            List<String> newTitlesOfPage = new ArrayList<>();
+            for (int i = 0; i < page.titles().size() && i < page.links().size(); i++) {
+                String title = page.titles().get(i);
+                // Skip elements without work titles, and ignore already seen ones
+                if (!title.isEmpty() && !allWorksOnPlatform.containsKey(title)) {
+                    allWorksOnPlatform.put(title, platformConfig.getWatchUrlPrefix() + page.links().get(i));
+                    newTitlesOfPage.add(title);
+                }
+            }
+            System.out.println(platformConfig.getName() + " page " + pageCount + ": " + newTitlesOfPage.size() + " new works");
+            if (newTitlesOfPage.isEmpty() || stopAfterPage.test(newTitlesOfPage)) {
+                complete = true;
+                break;
+            }
+
+            if (platformConfig.getPageUrlTemplate() != null) {
+                pageNumber++;
+                pageUrl = platformConfig.getPageUrlTemplate().replace("{page}", String.valueOf(pageNumber));
+            } else if (page.nextPageUrl() != null) {
+                pageUrl = page.nextPageUrl();
+            } else {
+                // Without any next page button this was the last page
+                complete = !page.unfollowableNextPage();
+                if (!complete) {
+                    System.out.println(platformConfig.getName() + ": the next page button of page " + pageCount + " cannot be followed without a browser");
+                }
+                pageUrl = null;
+            }
+        }
+
+        if (allWorksOnPlatform.isEmpty() && complete) {
+            // e.g. an error, throttling or consent page sent with HTTP 200, or selectors that no longer match
+            System.out.println(platformConfig.getName() + ": no works found on the first page");
+            complete = false;
+        }
+        System.out.println("No. of fetched works: " + allWorksOnPlatform.size() + "!");
+        return new Result(allWorksOnPlatform, pageCount, complete);
+    }
+
+    private Page fetchPage(String pageUrl, TWOTTPlatformConfig platformConfig) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(pageUrl))
+            .timeout(Duration.ofSeconds(30))
+            .header("User-Agent", USER_AGENT)
+            .header("Accept-Language", "zh-TW,zh;q=0.9")
+            .GET()
+            .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + pageUrl);
+        }
+
+        List<String> titles = new ArrayList<>();
+        List<String> links = new ArrayList<>();
+        String nextPageUrl = null;
+        boolean unfollowableNextPage = false;
+
+        // Elements are checked as soon as they are closed, so the page is never held as one string
+        try (Reader reader = new InputStreamReader(response.body(), StandardCharsets.UTF_8);
+             StreamParser streamParser = new StreamParser(Parser.htmlParser()).parse(reader, pageUrl)) {
+            for (Element element : (Iterable<Element>) streamParser.stream()::iterator) {
+                if (element.is(platformConfig.gettitleElementSelector())) {
+                    titles.add(element.text().trim());
+                }
+                if (element.is(platformConfig.getWatchUrlElementSelector())) {
+                    links.add(element.attr("href"));
+                }
+                if (nextPageUrl == null && element.is(platformConfig.getNextPageBtnSelector())) {
+                    String href = element.absUrl("href");
+                    // Disabled buttons mean there is no next page; "javascript:" links are handled by scripts
+                    if ("true".equals(element.attr("aria-disabled"))) {
+                        continue;
+                    }
+                    if (href.startsWith("http")) {
+                        nextPageUrl = href;
+                    } else {
+                        unfollowableNextPage = true;
+                    }
+                }
+            }
+        }
+        return new Page(titles, links, nextPageUrl, unfollowableNextPage);
+    }
+}
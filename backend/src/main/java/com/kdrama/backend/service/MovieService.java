@@ -5,14 +5,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kdrama.backend.model.*;
 import com.kdrama.backend.repository.*;
+import com.kdrama.backend.util.KeysetPagination;
+import com.kdrama.backend.util.TmdbContentHash;
+
+import jakarta.transaction.Transactional;
 
 @Service
 public class MovieService {
@@ -34,6 +41,15 @@ public class MovieService {
     @Autowired
     private TWOTTPlatformScraper platformScraper;
 
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
     private final AiService aiService;
 
     private final ObjectMapper objectMapper;
@@ -67,9 +83,17 @@ public class MovieService {
     // C1-2: Call TMDB API to fetch movie information
     public Movie fillMovieMoreInfo(Movie movie) {
         try {
-            movie = tmdbMovieClient.fillMovieOtherInfo(movie);
-            movie = tmdbMovieClient.fillKrAgeRestriction(movie);
-            movie = tmdbMovieClient.fillMovieStaff(movie);
+            if (movie == null) {
+                return null;
+            }
+            // One TMDB request (append_to_response) shared by all the fill methods
+            JsonNode movieDocument = tmdbMovieClient.fetchMovieDocument(movie.getTmdbId());
+            movie = tmdbMovieClient.fillMovieOtherInfo(movie, movieDocument);
+            movie = tmdbMovieClient.fillKrAgeRestriction(movie, movieDocument);
+            movie = tmdbMovieClient.fillMovieStaff(movie, movieDocument);
+            if (movie != null) {
+                movie.setTmdbContentHash(TmdbContentHash.ofMovie(movieDocument));
+            }
             return movie;     
 		} catch (Exception e) {
 			System.err.println("Exception Occurred!" + e.getMessage());
@@ -111,9 +135,13 @@ public class MovieService {
         }
     }
    
-    // C2: Save a movie
+    // C2: Save a movie, together with its read model entry (refer to CatalogReadModel.java)
+    @Transactional
     public Movie saveMovie(@RequestBody Movie movie) {
-        return movieRepository.save(movie);
+        Movie savedMovie = movieRepository.save(movie);
+        catalogReadModel.refreshMovie(savedMovie);
+        catalogSearchService.indexMovie(savedMovie);
+        return savedMovie;
     }
 
     // R1: Get information of all the movies
@@ -121,6 +149,24 @@ public class MovieService {
         return movieRepository.findAll();
     }
 
+    public static final Set<String> SORT_KEYS = Set.of("chineseName", "releaseDate", "lastUpdatedByApi");
+
+    // null: not filtered by this field
+    public record MovieFilter(String genre, String releaseYear, String platform) {}
+
+    // R1-1: Get one page of the movies matching the filter (keyset pagination, refer to KeysetPagination.java)
+    public KeysetPagination.Page<Movie> findMovies(MovieFilter filter, KeysetPagination.Request page) {
+        Specification<Movie> specification = CatalogSpecifications.allOf(
+            CatalogSpecifications.hasElement("genres", filter.genre()),
+            CatalogSpecifications.releasedIn("releaseDate", filter.releaseYear()),
+            CatalogSpecifications.hasKey("movieTwPlatformMap", filter.platform()),
+            KeysetPagination.after(page, "movieId"));
+
+        List<Movie> rows = movieRepository.findBy(specification,
+            query -> query.sortBy(KeysetPagination.sort(page, "movieId")).limit(page.size() + 1).all());
+        return KeysetPagination.page(rows, page, "movieId");
+    }
+
     // R2: Get information of a movie identified by id
     public Optional<Movie> getMovieById(@PathVariable Integer id) {
         return movieRepository.findById(id);
@@ -137,8 +183,9 @@ public class MovieService {
     }
 
     // U: Update a movie
+    @Transactional
     public Movie updateMovie(@PathVariable Integer id, @RequestBody Movie movieToUpdate, boolean apiMode) {
-        return movieRepository.findById(id)
+        Movie updatedMovie = movieRepository.findById(id)
                 .map(movie -> {
                     movie.setTmdbId(movieToUpdate.getTmdbId());
                     if (!apiMode) {
@@ -163,15 +210,24 @@ public class MovieService {
                         movie.setAiOrManuallyEdited(movieToUpdate.isAiOrManuallyEdited());
                     }
                     movie.setLastUpdatedByApi(movieToUpdate.getLastUpdatedByApi());
+                    // Only present when movieToUpdate comes from the TMDB sync (the hash is not read from request bodies)
+                    if (movieToUpdate.getTmdbContentHash() != null) {
+                        movie.setTmdbContentHash(movieToUpdate.getTmdbContentHash());
+                    }
                     return movieRepository.save(movie);
                 })
                 .orElseGet(() -> {
                     movieToUpdate.setMovieId(id);
                     return movieRepository.save(movieToUpdate);
                 });
+        catalogReadModel.refreshMovie(updatedMovie);
+        catalogSearchService.indexMovie(updatedMovie);
+        catalogCache.evictMovie(updatedMovie.getMovieId()); // Once committed, refer to CatalogCache.java
+        return updatedMovie;
     }
 
     // D: Delete a movie
+    @Transactional
     public void deleteMovie(@PathVariable Integer id) {
         // First, remove relationships with existing actors who act in the movie to delete
         // Also, remove relationships with users who have the movie in their watchlist
@@ -189,6 +245,9 @@ public class MovieService {
 
         // Then, safely delete the movie
         movieRepository.deleteById(id);
+        catalogReadModel.removeMovie(id);
+        catalogSearchService.removeMovie(id);
+        catalogCache.evictDeletedMovie(id);
     }
 
     // D-Bonus: Check if a movie exists in database before deletion
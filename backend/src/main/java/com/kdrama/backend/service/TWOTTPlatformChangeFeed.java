@@ -0,0 +1,218 @@
+package com.kdrama.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.model.Movie;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.repository.MovieRepository;
+import com.kdrama.backend.util.TitleMatcher;
+
+// Applies the titles added to / removed from the OTT platforms by a scrape run (TWOTTPlatformScraper.java)
+// to the dramaTwPlatformMap / movieTwPlatformMap of the works that are stored already
+// - Only works whose name matches a changed title (as is, or with TitleMatcher.java) are loaded
+// - Only the entries of the scraped platforms are replaced; the ones from TMDB (e.g. Netflix) are kept
+// - Works are updated in batches of ott.change-feed.batch-size, one transaction per batch, and only if their platforms changed
+// - Their read model entries (CatalogReadModel.java) are refreshed in the same transaction
+// - Removed titles are only applied if the scrape reached the last page and found at least ott.change-feed.min-catalog-ratio
+//   of the previous titles; otherwise a broken page (e.g. an empty list or a changed selector) would clear the platform
+
+@Service
+public class TWOTTPlatformChangeFeed {
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TWOTTTitleIndex titleIndex;
+
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
+    @Value("${ott.title-match.threshold:0.8}")
+    private double matchThreshold;
+
+    @Value("${ott.change-feed.batch-size:100}")
+    private int batchSize;
+
+    @Value("${ott.change-feed.min-catalog-ratio:0.7}")
+    private double minCatalogRatio;
+
+    // Stored works checked for every changed title that is not a stored name as is
+    private static final int MAX_CANDIDATES = 5;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TWOTTPlatformChangeFeed(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // checked: works whose name matches a changed title; updated: works whose platforms were changed
+    public record ChangeFeedReport(int dramasChecked, int dramasUpdated, int moviesChecked, int moviesUpdated) {}
+
+    // Called by TWOTTPlatformScraper.java before the cache of a full rescan is saved
+    // complete: false if the scrape stopped before the last page
+    public boolean acceptsRemovals(String platformName, int previousTitleCount, int newTitleCount, boolean complete) {
+        if (!complete) {
+            System.err.println("WARNING: " + platformName + " was not scraped to its last page, "
+                + "works missing from it are kept (" + newTitleCount + " of " + previousTitleCount + " titles found)");
+            return false;
+        }
+        if (newTitleCount < previousTitleCount * minCatalogRatio) {
+            System.err.println("WARNING: " + platformName + " shrank from " + previousTitleCount + " to " + newTitleCount
+                + " titles (below " + minCatalogRatio + " of the previous scrape), works missing from it are kept;"
+                + " check the platform's selectors / page, they are removed once a later full rescan is above the ratio");
+            return false;
+        }
+        return true;
+    }
+
+    // Has to be called after the title index was rebuilt with the new caches
+    public ChangeFeedReport apply(List<TWOTTPlatformScraper.PlatformScrapeReport> platformReports) {
+        Set<String> changedDramaTitles = new HashSet<>();
+        Set<String> changedMovieTitles = new HashSet<>();
+        Set<String> dramaPlatforms = new HashSet<>();
+        Set<String> moviePlatforms = new HashSet<>();
+
+        for (TWOTTPlatformScraper.PlatformScrapeReport platformReport : platformReports) {
+            if (!platformReport.succeeded()) {
+                continue; // Its cache was not replaced
+            }
+            String platformName = platformReport.platformName();
+            if (platformName.endsWith("-drama")) {
+                dramaPlatforms.add(TWOTTTitleIndex.savedPlatformName(platformName));
+                changedDramaTitles.addAll(platformReport.addedTitles());
+                if (!platformReport.removalsSkipped()) {
+                    changedDramaTitles.addAll(platformReport.removedTitles());
+                }
+            } else if (platformName.endsWith("-movie")) {
+                moviePlatforms.add(TWOTTTitleIndex.savedPlatformName(platformName));
+                changedMovieTitles.addAll(platformReport.addedTitles());
+                if (!platformReport.removalsSkipped()) {
+                    changedMovieTitles.addAll(platformReport.removedTitles());
+                }
+            }
+        }
+
+        List<Integer> dramaIds = changedDramaTitles.isEmpty() ? List.of() : findAffectedWorks(changedDramaTitles,
+            dramaRepository.findAllProjectedBy(), DramaRepository.NameView::getDramaId, DramaRepository.NameView::getChineseName);
+        List<Integer> movieIds = changedMovieTitles.isEmpty() ? List.of() : findAffectedWorks(changedMovieTitles,
+            movieRepository.findAllProjectedBy(), MovieRepository.NameView::getMovieId, MovieRepository.NameView::getChineseName);
+
+        int dramasUpdated = updateInBatches(dramaIds, batch -> {
+            List<Drama> changedDramas = new ArrayList<>();
+            for (Drama drama : dramaRepository.findAllById(batch)) {
+                Map<String, String> platforms = refreshPlatforms(drama.getDramaTwPlatformMap(), dramaPlatforms, drama.getChineseName(), "drama");
+                if (platforms != null) {
+                    drama.setDramaTwPlatformMap(platforms);
+                    changedDramas.add(drama);
+                    System.out.println(drama.getChineseName() + ": " + platforms.keySet());
+                }
+            }
+            dramaRepository.saveAll(changedDramas);
+            changedDramas.forEach(catalogReadModel::refreshDrama); // In the transaction of the batch
+            changedDramas.forEach(catalogSearchService::indexDrama); // Applied once the batch is committed
+            return changedDramas.size();
+        });
+
+        int moviesUpdated = updateInBatches(movieIds, batch -> {
+            List<Movie> changedMovies = new ArrayList<>();
+            for (Movie movie : movieRepository.findAllById(batch)) {
+                Map<String, String> platforms = refreshPlatforms(movie.getMovieTwPlatformMap(), moviePlatforms, movie.getChineseName(), "movie");
+                if (platforms != null) {
+                    movie.setMovieTwPlatformMap(platforms);
+                    changedMovies.add(movie);
+                    System.out.println(movie.getChineseName() + ": " + platforms.keySet());
+                }
+            }
+            movieRepository.saveAll(changedMovies);
+            changedMovies.forEach(catalogReadModel::refreshMovie);
+            changedMovies.forEach(catalogSearchService::indexMovie);
+            return changedMovies.size();
+        });
+
+        ChangeFeedReport report = new ChangeFeedReport(dramaIds.size(), dramasUpdated, movieIds.size(), moviesUpdated);
+        System.out.println("TW OTT platforms of stored works updated: " + dramasUpdated + "/" + dramaIds.size() + " dramas, "
+            + moviesUpdated + "/" + movieIds.size() + " movies");
+        return report;
+    }
+
+    // Ids of the stored works whose name is one of the changed titles, or matches one of them well enough
+    private <T> List<Integer> findAffectedWorks(Set<String> changedTitles, List<T> storedWorks,
+                                                Function<T, Integer> idOf, Function<T, String> nameOf) {
+        Map<String, List<Integer>> idsByName = new HashMap<>();
+        for (T work : storedWorks) {
+            if (nameOf.apply(work) != null) {
+                idsByName.computeIfAbsent(nameOf.apply(work), name -> new ArrayList<>()).add(idOf.apply(work));
+            }
+        }
+
+        TitleMatcher storedNameMatcher = null;
+        Set<Integer> affectedIds = new HashSet<>();
+        for (String title : changedTitles) {
+            List<Integer> exactMatches = idsByName.get(title);
+            if (exactMatches != null) {
+                affectedIds.addAll(exactMatches);
+                continue;
+            }
+            if (storedNameMatcher == null) { // Only built if a title is not a stored name as is
+                storedNameMatcher = new TitleMatcher(idsByName.keySet());
+            }
+            for (TitleMatcher.Match match : storedNameMatcher.findCandidates(title, MAX_CANDIDATES)) {
+                if (match.score() < matchThreshold) {
+                    break;
+                }
+                affectedIds.addAll(idsByName.get(match.title()));
+            }
+        }
+        return new ArrayList<>(affectedIds);
+    }
+
+    // null if the platforms did not change
+    private Map<String, String> refreshPlatforms(Map<String, String> storedPlatforms, Set<String> scrapedPlatforms,
+                                                 String workChineseName, String workType) {
+        Map<String, String> platforms = storedPlatforms != null ? new HashMap<>(storedPlatforms) : new HashMap<>();
+        platforms.keySet().removeAll(scrapedPlatforms);
+        titleIndex.lookup(workChineseName, workType).forEach((platformName, url) -> {
+            if (scrapedPlatforms.contains(platformName)) {
+                platforms.put(platformName, url);
+            }
+        });
+
+        boolean unchanged = storedPlatforms != null ? platforms.equals(storedPlatforms) : platforms.isEmpty();
+        return unchanged ? null : platforms;
+    }
+
+    // One transaction per batch, so a failed batch does not roll back the ones before it
+    private int updateInBatches(List<Integer> ids, Function<List<Integer>, Integer> updateBatch) {
+        int updated = 0;
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < ids.size(); from += size) {
+            List<Integer> batch = ids.subList(from, Math.min(ids.size(), from + size));
+            try {
+                updated += transactionTemplate.execute(status -> updateBatch.apply(batch));
+            } catch (Exception e) {
+                System.err.println("Failed to update the TW OTT platforms of " + batch.size() + " works: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+        return updated;
+    }
+}
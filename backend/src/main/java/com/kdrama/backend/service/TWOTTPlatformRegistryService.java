@@ -1,11 +1,13 @@
 package com.kdrama.backend.service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
 import com.kdrama.backend.config.TWOTTPlatformConfig;
+import com.kdrama.backend.enums.ScraperBackend;
 
 @Component
 public class TWOTTPlatformRegistryService {
@@ -22,6 +24,15 @@ public class TWOTTPlatformRegistryService {
         platforms.put("MyVideo-movie", new TWOTTPlatformConfig("MyVideo-movie", "https://www.myvideo.net.tw/movie/genre/all/all/%E9%9F%93%E5%9C%8B/all/?orderBy=1", "#vidioListUl li h3 a", "#vidioListUl li h3 a", "https://www.myvideo.net.tw", ".more", false));
         // For LINE TV, it is relatively harder to scrape as sometimes the next button cannot be fetched normally; need to take a few tries or help Chrome driver click the buttons
         platforms.put("LINE TV-drama", new TWOTTPlatformConfig("LINE TV-drama", "https://www.linetv.tw/channel/1/genre/44?genre_token=44&sort=VIEW_COUNT_LAST_7_DAYS&source=CHANNEL_PREDEFINED_FILTER&source_channel_id=1&source_feed_id=13", ".channel-filter-result__drama-title", ".channel-filter-result__item-container a", "https://www.linetv.tw", "li.Pagination-next a.Pagination-nextLink", false));
+
+        // Lists of these platforms are rendered by the server, so no browser is needed (refer to HttpPlatformScraper.java)
+        // MyVideo-movie stays on the browser: its list is rendered by the server, but its ".more" button is href="javascript:void(0)"
+        for (String name : List.of("friDay影音-drama", "friDay影音-movie")) {
+            platforms.get(name).setScraperBackend(ScraperBackend.HTTP);
+        }
+
+        // Lists starting with the newest works (filterType=new), so incremental scraping stops after the first pages
+        platforms.get("Hami Video-movie").setSortedByNewest(true);
     }
 
     public Map<String, TWOTTPlatformConfig> getPlatforms() {
@@ -5,24 +5,46 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.kdrama.backend.config.TWOTTPlatformConfig;
+import com.kdrama.backend.enums.ScraperBackend;
+import com.kdrama.backend.util.PageTransitionWait;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
-import java.time.Duration;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// Scraping of the Korean works on Taiwanese OTT platforms (registered in TWOTTPlatformRegistryService.java)
+// - Platforms are scraped at the same time with browsers of HeadlessBrowserPool.java, or without a browser
+//   (HttpPlatformScraper.java) if their lists are in the HTML sent by the server
+// - Platforms on the same website (e.g. friDay影音 dramas and movies) still take turns: at most
+//   scraper.per-domain-permits platforms of one domain are scraped at the same time
+// - Run time, page count and title count of every platform are reported at the end of a run (refer to getLastScrapeReport())
+// - Incremental runs (every three hours): platforms listing their newest works first stop after
+//   scraper.incremental.known-pages pages in a row without any title that is not in the cache yet;
+//   the new titles are merged into the cache. Removed titles are only found by full rescans (scraper.full-rescan-cron)
+// - Added / removed titles are applied to the stored dramas and movies at the end of a run (refer to TWOTTPlatformChangeFeed.java)
 
 @Service
 public class TWOTTPlatformScraper {
@@ -32,72 +54,260 @@ public class TWOTTPlatformScraper {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private TWOTTTitleIndex titleIndex;
+
+    @Autowired
+    private TWOTTPlatformChangeFeed changeFeed;
+
+    @Autowired
+    private HeadlessBrowserPool browserPool;
+
+    @Autowired
+    private HttpPlatformScraper httpPlatformScraper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${scraper.per-domain-permits:1}")
+    private int perDomainPermits;
+
+    @Value("${scraper.incremental.known-pages:2}")
+    private int knownPageLimit;
+
+    private final Map<String, Semaphore> domainPermits = new ConcurrentHashMap<>();
+
+    // Incremental runs and full rescans never run at the same time
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile ScrapeReport lastScrapeReport;
+
+    // works: null if the platform could not be scraped; complete: false if it stopped before the last page
+    private record PlatformScrape(Map<String, String> works, int pageCount, boolean complete) {}
+
+    // incremental: only the newest pages were scraped; removedTitles is always empty then
+    // removalsSkipped: removedTitles were not found, but kept in the cache (refer to TWOTTPlatformChangeFeed.acceptsRemovals)
+    public record PlatformScrapeReport(String platformName, long durationMillis, int pageCount, int titleCount, boolean succeeded,
+                                       boolean incremental, List<String> addedTitles, List<String> removedTitles,
+                                       boolean removalsSkipped) {}
+
+    public record ScrapeReport(LocalDateTime startedAt, long durationMillis, boolean incremental, List<PlatformScrapeReport> platforms) {}
+
     @Scheduled(cron = "0 0 0/3 * * *") // it is recommended to use @Scheduled(cron = "0 0 0/3 * * *") to preload productions every three hours; the project has to be in running state to work, and if the timing is missed, one has to wait until the next one
     public void preloadProductionsOnTWOTTPlatforms() {
-        TWOTTPlatformConfig config = new TWOTTPlatformConfig(null, null, null, null, null, null, false);
-        Map<String, String> productionMap = new HashMap<>();
+        runScrape(true);
+    }
+
+    // Every page of every platform, so that works removed from a platform are removed from its cache as well
+    @Scheduled(cron = "${scraper.full-rescan-cron:0 30 4 * * *}")
+    public void rescanProductionsOnTWOTTPlatforms() {
+        runScrape(false);
+    }
+
+    private void runScrape(boolean incremental) {
+        if (!runLock.tryLock()) {
+            System.out.println("Taiwanese OTT Productions are being fetched already, this run is skipped");
+            return;
+        }
+        try {
+            scrapeAllPlatforms(incremental);
+        } finally {
+            runLock.unlock();
+        }
+    }
 
-        System.out.println("Fetching Taiwanese OTT Productions...");
+    private void scrapeAllPlatforms(boolean incremental) {
+        System.out.println("Fetching Taiwanese OTT Productions" + (incremental ? " (incremental)" : " (full rescan)") + "...");
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
 
         Map<String, TWOTTPlatformConfig> allPlatforms = platformService.getPlatforms();
+        List<Future<PlatformScrapeReport>> futures = new ArrayList<>();
 
-        for (Map.Entry<String, TWOTTPlatformConfig> e : allPlatforms.entrySet()) {
-            config = platformService.getPlatforms().get(e.getKey());
-            delay(3000);
-            productionMap = startPlatformScraper(config);
+        // Closing the executor waits until every platform is done
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TWOTTPlatformConfig config : allPlatforms.values()) {
+                futures.add(executor.submit(() -> scrapeAndSave(config, incremental)));
+            }
+        }
 
-            if (productionMap != null) {
-                cacheManager.saveCache(e.getValue().getName(), productionMap);
-                System.out.println("Fetching for this platform is complete, " + productionMap.size() + " works in total");
+        List<PlatformScrapeReport> platformReports = new ArrayList<>();
+        for (Future<PlatformScrapeReport> future : futures) {
+            try {
+                platformReports.add(future.get());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        titleIndex.rebuild();
+
+        // Stored works of the added / removed titles get their new platforms without a manual apiupdate
+        try {
+            changeFeed.apply(platformReports);
+        } catch (Exception e) {
+            System.err.println("Failed to update the TW OTT platforms of stored works: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        ScrapeReport report = new ScrapeReport(startedAt, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), incremental, platformReports);
+        lastScrapeReport = report;
+
+        System.out.println("Taiwanese OTT Productions Fetching is complete (" + report.durationMillis() / 1000 + "s):");
+        for (PlatformScrapeReport platformReport : platformReports) {
+            System.out.println("  " + platformReport.platformName() + ": "
+                + (platformReport.succeeded() ? platformReport.titleCount() + " works, " : "failed, ")
+                + platformReport.pageCount() + " pages" + (platformReport.incremental() ? " (incremental), " : ", ")
+                + platformReport.durationMillis() / 1000 + "s, added: " + platformReport.addedTitles()
+                + (platformReport.removalsSkipped() ? ", not removed: " : ", removed: ") + platformReport.removedTitles());
+        }
+    }
+
+    // null if no scrape run has finished since startup
+    public ScrapeReport getLastScrapeReport() {
+        return lastScrapeReport;
+    }
+
+    private PlatformScrapeReport scrapeAndSave(TWOTTPlatformConfig config, boolean incremental) {
+        long startNanos = System.nanoTime();
+        Map<String, String> previousWorks = cacheManager.getCache(config.getName());
+        boolean delta = incremental && config.isSortedByNewest() && !previousWorks.isEmpty();
+
+        PlatformScrape scrape = scrapePlatform(config, delta ? stopAfterKnownPages(previousWorks.keySet()) : pageTitles -> false);
+
+        List<String> addedTitles = List.of();
+        List<String> removedTitles = List.of();
+        boolean removalsSkipped = false;
+        int titleCount = 0;
+        if (scrape.works() != null) {
+            addedTitles = scrape.works().keySet().stream().filter(title -> !previousWorks.containsKey(title)).sorted().toList();
+
+            Map<String, String> updatedWorks;
+            if (delta) {
+                // Only the newest pages were scraped: the works found there are merged into the previous ones
+                updatedWorks = new HashMap<>(previousWorks);
+                updatedWorks.putAll(scrape.works());
             } else {
-                System.out.println("Failed to fetch works on " + e.getKey());
+                updatedWorks = scrape.works();
+                removedTitles = previousWorks.keySet().stream().filter(title -> !scrape.works().containsKey(title)).sorted().toList();
+                if (!removedTitles.isEmpty()
+                    && !changeFeed.acceptsRemovals(config.getName(), previousWorks.size(), scrape.works().size(), scrape.complete())) {
+                    // Kept until a full rescan confirms them, so the cache and the stored works stay the same
+                    removalsSkipped = true;
+                    updatedWorks = new HashMap<>(previousWorks);
+                    updatedWorks.putAll(scrape.works());
+                }
             }
+            cacheManager.saveCache(config.getName(), updatedWorks);
+            titleCount = updatedWorks.size();
+            System.out.println("Fetching for " + config.getName() + " is complete, " + titleCount + " works in total");
+        } else {
+            System.out.println("Failed to fetch works on " + config.getName());
         }
 
-        System.out.println("Taiwanese OTT Productions Fetching is complete.");
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder("ott.scrape.platform")
+            .tag("platform", config.getName())
+            .tag("outcome", scrape.works() != null ? "success" : "failure")
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return new PlatformScrapeReport(config.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), scrape.pageCount(),
+            titleCount, scrape.works() != null, delta, addedTitles, removedTitles, removalsSkipped);
+    }
+
+    // Called with the titles first seen on every page; true once the last K pages had only titles that were cached already
+    private Predicate<List<String>> stopAfterKnownPages(Set<String> previousTitles) {
+        int[] knownPagesInARow = {0};
+        return pageTitles -> {
+            if (!pageTitles.isEmpty() && previousTitles.containsAll(pageTitles)) {
+                knownPagesInARow[0]++;
+            } else {
+                knownPagesInARow[0] = 0;
+            }
+            return knownPagesInARow[0] >= Math.max(1, knownPageLimit);
+        };
     }
     
     public HashMap<String, String> getWorkTWOTTPlatformInfo(String workChineseName, String workType) {
-        Set<String> allPlatformNames = platformService.getPlatforms().keySet();
+        // Platforms of this title from the in-memory index (refer to TWOTTTitleIndex.java) instead of reading every cache file
+        return titleIndex.lookup(workChineseName, workType);
+    }
 
-        // HashMap to be returned
-        HashMap<String, String> platformMapOfThisWork = new HashMap<>();
+    public Map<String, String> startPlatformScraper(TWOTTPlatformConfig platformConfig) {
+        return scrapePlatform(platformConfig, pageTitles -> false).works();
+    }
 
-        for (String platformName : allPlatformNames) {
-            Map<String, String> allProductionsOnPlatform = cacheManager.loadCache(platformName);
+    // Waits for its turn on the platform's website first
+    // stopAfterPage: called with the titles first seen on every page; scraping ends when it returns true
+    private PlatformScrape scrapePlatform(TWOTTPlatformConfig platformConfig, Predicate<List<String>> stopAfterPage) {
+        String host = URI.create(platformConfig.getSearchUrl()).getHost();
+        Semaphore domainPermit = domainPermits.computeIfAbsent(host, h -> new Semaphore(Math.max(1, perDomainPermits)));
 
-            if (workType.equals("drama") && platformName.contains("-movie")) {
-                // Skip movie caches if the search target is a drama
-                continue;
-            }
-            else if (workType.equals("movie") && platformName.contains("-drama")) {
-                // Skip drama caches if the search target is a movie
-                continue;
+        try {
+            domainPermit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PlatformScrape(null, 0, false);
+        }
+        try {
+            delay(3000);
+            if (platformConfig.getScraperBackend() == ScraperBackend.HTTP) {
+                PlatformScrape httpScrape = scrapeWithHttp(platformConfig, stopAfterPage);
+                if (httpScrape.works() != null && !httpScrape.works().isEmpty()) {
+                    return httpScrape;
+                }
+                // e.g. the website now renders its list or its next page button with JavaScript
+                System.out.println("Could not scrape every work on " + platformConfig.getName() + " without a browser, scraping with a browser instead");
             }
-            else if (allProductionsOnPlatform.containsKey(workChineseName)) {
-                // This work can be watched on this platform; add to map
-                String platformNameToSave = platformName.split("-")[0];
-                platformMapOfThisWork.put(platformNameToSave, allProductionsOnPlatform.get(workChineseName));
+            return scrapeWithBrowser(platformConfig, stopAfterPage);
+        } finally {
+            domainPermit.release();
+        }
+    }
+
+    private PlatformScrape scrapeWithHttp(TWOTTPlatformConfig platformConfig, Predicate<List<String>> stopAfterPage) {
+        try {
+            HttpPlatformScraper.Result result = httpPlatformScraper.scrape(platformConfig, stopAfterPage);
+            if (!result.complete()) {
+                // Pages were left out, which would look like removed works to a full rescan
+                return new PlatformScrape(null, result.pageCount(), false);
             }
+            return new PlatformScrape(result.works(), result.pageCount(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PlatformScrape(null, 0, false);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new PlatformScrape(null, 0, false);
         }
-        
-        return platformMapOfThisWork;
     }
 
-    public Map<String, String> startPlatformScraper(TWOTTPlatformConfig platformConfig) {
-        WebDriverManager.chromedriver().setup();
-        WebDriver driver = new ChromeDriver();
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    private PlatformScrape scrapeWithBrowser(TWOTTPlatformConfig platformConfig, Predicate<List<String>> stopAfterPage) {
+        WebDriver driver;
+        try {
+            driver = browserPool.borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PlatformScrape(null, 0, false);
+        } catch (RuntimeException e) { // e.g. Chrome could not be started
+            e.printStackTrace();
+            return new PlatformScrape(null, 0, false);
+        }
+        PageTransitionWait pageWait = new PageTransitionWait(driver, platformConfig.gettitleElementSelector(), platformConfig.getReadinessSelector());
 
         String url = platformConfig.getSearchUrl();
         Set<String> seenTitles = new HashSet<>();
         Map<String, String> allWorksOnPlatform = new HashMap<>();
+        int pageCount = 0;
+        boolean broken = false;
+        boolean complete = true;
 
         try {
             driver.get(url);
 
             while (true) {
-                wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(platformConfig.gettitleElementSelector())));
+                pageCount++;
+                pageWait.awaitReady();
+                List<String> newTitlesOfPage = new ArrayList<>();
                 List<WebElement> titleElements = driver.findElements(By.cssSelector(platformConfig.gettitleElementSelector()));
                 List<WebElement> watchUrlElements = driver.findElements(By.cssSelector(platformConfig.getWatchUrlElementSelector()));
 
@@ -114,6 +324,7 @@ public class TWOTTPlatformScraper {
                         // Ignore already seen ones
                         if (!seenTitles.contains(title)) {
                             seenTitles.add(title);
+                            newTitlesOfPage.add(title);
                             allWorksOnPlatform.put(title, platformConfig.getWatchUrlPrefix() + link);
                             System.out.println("Fetched work: " + title + " → " + link);
                         }
@@ -123,8 +334,12 @@ public class TWOTTPlatformScraper {
                     }
                 }
 
+                if (stopAfterPage.test(newTitlesOfPage)) {
+                    System.out.println("No new works on the last pages. Fetching for this platform ends.");
+                    break;
+                }
+
                 // Click on the "next page" button
-                delay(5000);
                 List<WebElement> nextButtons = driver.findElements(By.cssSelector(platformConfig.getNextPageBtnSelector()));
                 if (nextButtons.isEmpty()) {
                     System.out.println("No more next page buttons. Fetching for this platform ends.");
@@ -145,12 +360,15 @@ public class TWOTTPlatformScraper {
                     if (nextButton.isDisplayed() && nextButton.isEnabled()) {
 
                         // Scroll and click the button via JavascriptExecutor
+                        PageTransitionWait.PageState pageBeforeClick = pageWait.capture();
                         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", nextButton);
                         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", nextButton);
 
-                        // Wait until new titles are loaded
-                        wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(platformConfig.gettitleElementSelector())));
-                        delay(5000); // Wait
+                        // Wait until new titles are loaded (refer to PageTransitionWait.java)
+                        if (!pageWait.awaitTransition(pageBeforeClick)) {
+                            System.out.println("The page did not change after clicking the next page button. Fetching ends.");
+                            break;
+                        }
 
                     } else {
                         System.out.println("Next page button is not clickable. Fetching ends.");
@@ -162,19 +380,21 @@ public class TWOTTPlatformScraper {
                     continue; // Try to fetch the next button again
                 } catch (Exception e) {
                     System.out.println("Failed to click next page button: " + e.getMessage());
+                    complete = false;
                     break;
                 }
             }
 
             System.out.println("No. of fetched works: " + allWorksOnPlatform.size() + "!");
-            return allWorksOnPlatform;
+            return new PlatformScrape(allWorksOnPlatform, pageCount, complete);
 
         } catch (Exception e) {
             e.printStackTrace();
-            return null;
+            broken = true;
+            return new PlatformScrape(null, pageCount, false);
 
         } finally {
-            driver.quit();
+            browserPool.release(driver, broken);
         }
     }
 
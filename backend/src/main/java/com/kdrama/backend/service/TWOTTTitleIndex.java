@@ -0,0 +1,117 @@
+package com.kdrama.backend.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kdrama.backend.util.TitleMatcher;
+
+// Inverted index of the scraped OTT platform caches: work title -> (platform -> watch URL)
+// - Built from CacheManager.java once, then replaced as a whole when a platform cache is rewritten
+// - The index itself is never changed after it is built, so lookups read it without any lock
+// - Titles that are not found as is are matched with TitleMatcher.java (e.g. full-width punctuation,
+//   "第二季" vs "第2季", Simplified Chinese titles); matches scoring at least ott.title-match.threshold are accepted
+// e.g. "苦盡柑來遇見你" -> {"friDay影音-drama": "https://video.friday.tw/...", "LINE TV-drama": "https://www.linetv.tw/..."}
+
+@Component
+public class TWOTTTitleIndex {
+    @Autowired
+    private TWOTTPlatformRegistryService platformService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${ott.title-match.threshold:0.8}")
+    private double matchThreshold;
+
+    // Candidates checked when a title is not found as is (the same work can be listed under a different title on every platform)
+    private static final int MAX_CANDIDATES = 5;
+
+    private record Snapshot(long version, Map<String, Map<String, String>> platformsByTitle, TitleMatcher matcher) {}
+
+    // version -1: not built yet
+    private volatile Snapshot snapshot = new Snapshot(-1, Map.of(), new TitleMatcher(List.of()));
+
+    // Platforms (e.g. "friDay影音-drama") where the work can be watched, with their watch URLs
+    public Map<String, String> lookup(String workChineseName) {
+        Snapshot current = current();
+        Map<String, String> exactMatch = current.platformsByTitle().get(workChineseName);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+
+        // Platforms of the best candidate come first; other candidates may only add platforms that are still missing
+        Map<String, String> platforms = new HashMap<>();
+        for (TitleMatcher.Match match : current.matcher().findCandidates(workChineseName, MAX_CANDIDATES)) {
+            if (match.score() < matchThreshold) {
+                break;
+            }
+            System.out.println("Matched " + workChineseName + " with " + match.title() + " (score " + String.format("%.2f", match.score()) + ")");
+            current.platformsByTitle().get(match.title()).forEach(platforms::putIfAbsent);
+        }
+        return platforms;
+    }
+
+    // Platforms of one work type, saved under their names without the type (e.g. "friDay影音"), as in dramaTwPlatformMap / movieTwPlatformMap
+    // workType: "drama" or "movie"
+    public HashMap<String, String> lookup(String workChineseName, String workType) {
+        HashMap<String, String> platformMapOfThisWork = new HashMap<>();
+        for (Map.Entry<String, String> entry : lookup(workChineseName).entrySet()) {
+            String platformName = entry.getKey();
+            if (platformName.endsWith("-" + workType)) {
+                platformMapOfThisWork.put(savedPlatformName(platformName), entry.getValue());
+            }
+        }
+        return platformMapOfThisWork;
+    }
+
+    // e.g. "friDay影音-drama" -> "friDay影音"
+    public static String savedPlatformName(String platformName) {
+        return platformName.split("-")[0];
+    }
+
+    // Candidates with their scores, including the ones below the threshold (e.g. to be checked manually)
+    public List<TitleMatcher.Match> findCandidates(String workChineseName, int limit) {
+        return current().matcher().findCandidates(workChineseName, limit);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current.version() == cacheManager.getVersion() ? current : refresh();
+    }
+
+    // Called at the end of a scrape run, so that the next lookup does not have to build the index
+    public void rebuild() {
+        refresh();
+    }
+
+    // Rebuild the index if a platform cache was rewritten after it was built
+    private synchronized Snapshot refresh() {
+        long version = cacheManager.getVersion();
+        if (snapshot.version() == version) {
+            return snapshot;
+        }
+
+        Map<String, Map<String, String>> platformsByTitle = new HashMap<>();
+        for (String platformName : platformService.getPlatforms().keySet()) {
+            Map<String, String> allProductionsOnPlatform = cacheManager.getCache(platformName);
+            for (Map.Entry<String, String> production : allProductionsOnPlatform.entrySet()) {
+                platformsByTitle.computeIfAbsent(production.getKey(), title -> new HashMap<>())
+                                .put(platformName, production.getValue());
+            }
+        }
+        for (Map.Entry<String, Map<String, String>> entry : platformsByTitle.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+
+        Snapshot rebuilt = new Snapshot(version, Collections.unmodifiableMap(platformsByTitle), new TitleMatcher(platformsByTitle.keySet()));
+        snapshot = rebuilt;
+        System.out.println("TW OTT title index rebuilt: " + platformsByTitle.size() + " titles");
+        return rebuilt;
+    }
+}
@@ -3,7 +3,10 @@ package com.kdrama.backend.service;
 import java.io.File;
 import java.io.IOException;
 import java.net.URLEncoder;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -20,33 +23,30 @@ import jakarta.transaction.Transactional;
 @Component
 public class TmdbActorClient {
 
-    private final AiService aiService;
-
     private final ObjectMapper objectMapper;
     private final TmdbProperties tmdbProperties;
 
-    public TmdbActorClient(TmdbProperties tmdbProperties, ObjectMapper objectMapper, AiService aiService) {
+    public TmdbActorClient(TmdbProperties tmdbProperties, ObjectMapper objectMapper) {
         this.tmdbProperties = tmdbProperties;
         this.objectMapper = objectMapper;
-        this.aiService = aiService;
     }
 
     @Autowired
-    private MovieService movieService;
-
-    @Autowired
-    private DramaService dramaService;
+    private FilmographyEngine filmographyEngine;
 
     private static final String BASE_SEARCH_URL = "https://api.themoviedb.org/3/search/person";
     private static final String BASE_URL = "https://api.themoviedb.org/3/person";
 
+    // Fields converted to Traditional Chinese: person names, biographies and the titles of works in combined credits
+    private static final Set<String> CONVERTED_FIELDS = Set.of("name", "title", "biography");
+
     public Integer getActorTmdbIdByActorName(String name) throws IOException {
         String tmdbApiKey = tmdbProperties.getKey();
         String query = URLEncoder.encode(name, "UTF-8");
         String requestUrl = BASE_SEARCH_URL + "?api_key=" + tmdbApiKey + "&language=zh-TW&query=" + query;
 
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (results != null && results.isArray() && results.size() > 0) {
                 JsonNode firstResult = results.path(0);
 
@@ -69,7 +69,7 @@ public class TmdbActorClient {
 
         try {
             String requestUrl = BASE_URL + "/" + actor.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 actor.setProfilePicUrl("https://media.themoviedb.org/t/p/w300_and_h450_bestv2/" + results.path("profile_path").asText());
                 actor.setBirthday(results.path("birthday").asText());
@@ -109,17 +109,21 @@ public class TmdbActorClient {
         }
 
         try {
+            // English and Korean names are independent, so both requests are sent at the same time
+            String englishRequestUrl = BASE_URL + "/" + actor.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=en";
+            String koreanRequestUrl = BASE_URL + "/" + actor.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=kr";
+            CompletableFuture<JsonNode> englishFuture = JsonNodeRequest.getJsonNodebyRequestQueryAsync(englishRequestUrl, CONVERTED_FIELDS);
+            CompletableFuture<JsonNode> koreanFuture = JsonNodeRequest.getJsonNodebyRequestQueryAsync(koreanRequestUrl, CONVERTED_FIELDS);
+
             // English Name
-            String requestUrl = BASE_URL + "/" + actor.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=en";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = englishFuture.join();
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 // Fill in the English information
                 actor.setEnglishName(results.path("name").asText());
             }
 
             // Korean Name
-            requestUrl = BASE_URL + "/" + actor.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=kr";
-            results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            results = koreanFuture.join();
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 // Fill in the Korean information
                 actor.setKoreanName(results.path("name").asText());
@@ -140,8 +144,11 @@ public class TmdbActorClient {
         }      
     }
     
+    // incremental: existing works are only refreshed if their TMDB content changed (refer to FilmographyEngine.java)
+    // listener is called once for every finished work
     @Transactional // To keep hibernate session awake
-    public Actor fillActorWorks (Actor actor, boolean includesExistingWork) throws IOException {
+    public Actor fillActorWorks (Actor actor, boolean includesExistingWork, boolean incremental,
+                                 Consumer<FilmographyEngine.WorkResult> listener) throws IOException {
         String tmdbApiKey = tmdbProperties.getKey();
         if (actor == null) {
             return null;
@@ -149,157 +156,21 @@ public class TmdbActorClient {
 
         try {
             String requestUrl = BASE_URL + "/" + actor.getTmdbId() +"/combined_credits?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 JsonNode workNodes = results.path("cast");
 
                 // Also fetch actor's works with TMDB API
                 // Get the drama_id and movie_id from database
                 // Save them, and also save them as actor's dramas and movies if not saved yet
+                // Works are handled in parallel, refer to FilmographyEngine.java
                 if (workNodes.isArray() && workNodes.size() > 0) {
-                    for (JsonNode workNode : workNodes) {
-                        String mediaType = workNode.path("media_type").asText();
-                        Integer tmdbWorkId = workNode.path("id").asInt();
-
-                        if (mediaType.equals("movie")) {
-                            Movie movie = new Movie();
-                            Movie savedMovie = null;
-
-                            Optional<Movie> optionalMovie = movieService.getMovieByTmdbId(tmdbWorkId);
-
-                            if (includesExistingWork && !optionalMovie.isEmpty()) { // Update existing work as well
-                                movie.setTmdbId(tmdbWorkId);
-                                movie.setChineseName(workNode.path("title").asText());
-                                Movie filledMovie = movieService.fillMovieMoreInfo(movie);
-                                if (filledMovie != null) {
-                                    filledMovie = aiService.aiUpdateMovieInfo(filledMovie);
-                                    filledMovie = movieService.fillTWPlatformInformation(filledMovie);
-                                    Movie existingMovie = optionalMovie.get();
-                                    if (filledMovie != null) {
-                                    savedMovie = movieService.updateMovie(existingMovie.getMovieId(), filledMovie, true);
-                                    } else {
-                                        System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
-                                        savedMovie = null;
-                                    }
-                                }
-                                else {
-                                    System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
-                                    continue;
-                                }
-                            }
-                            else if (!includesExistingWork && !optionalMovie.isEmpty()) { // Skip existing work
-                                savedMovie = optionalMovie.get();
-                            }
-                            else { // Only add movies not in the database
-                                savedMovie = optionalMovie.orElseGet(() -> {
-                                    movie.setTmdbId(tmdbWorkId);
-                                    movie.setChineseName(workNode.path("title").asText());
-                                    Movie filledMovie = movieService.fillMovieMoreInfo(movie);
-                                    if (filledMovie != null) {
-                                        filledMovie = aiService.aiUpdateMovieInfo(filledMovie);
-                                        filledMovie = movieService.fillTWPlatformInformation(filledMovie);
-                                         if (filledMovie != null) {
-                                            return movieService.saveMovie(filledMovie);
-                                        } else {
-                                            System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
-                                            return null;
-                                        }
-                                    }
-                                    else {
-                                        System.out.println("Movie fetch failed or skipped for tmdbId: " + tmdbWorkId);
-                                        return null;
-                                    }
-                                   
-                                });
-                            }
-                            if (savedMovie != null) {
-                                try {
-                                    if (!actor.getMovies().contains(savedMovie) && savedMovie.getLeadActors().contains(actor.getChineseName())) {
-                                        actor.getMovies().add(savedMovie);
-                                    }
-                                } catch (Exception e) {
-                                    System.out.println("Exception occurred at movie: " + savedMovie.getChineseName());
-                                    e.printStackTrace();
-                                }
-                                
-                            }
-                        }
-                        else if (mediaType.equals("tv")) {
-                            if (!dramaService.isDrama(tmdbWorkId)) {
-                                continue;
-                            }
-                            else {
-                                Integer totalSeasons = dramaService.getDramaSeasonCount(tmdbWorkId);
-                                for (int season = 1; season <= totalSeasons; season++) {
-                                    Drama drama = new Drama();
-                                    Drama filledDrama = null;
-
-                                    drama.setTmdbId(tmdbWorkId);
-                                    drama.setSeasonNumber(season);
-                                    drama.setChineseName(workNode.path("name").asText() + " - 第" + season + "季");
-
-                                    filledDrama = dramaService.fillDramaMoreInfo(drama, actor.getChineseName());
-
-                                    if (filledDrama != null) {
-                                        Optional<Drama> existingDramaOpt = dramaService.getDramaByTmdbIdAndSeasonNumber(tmdbWorkId, season);
-                                        if (existingDramaOpt.isPresent()) {
-                                            if (!includesExistingWork) {
-                                                continue; // Skip if not including updating existing works
-                                            }
-                                            else {
-                                                Drama existingDrama = existingDramaOpt.get();
-                                                filledDrama = aiService.aiUpdateDramaInfo(filledDrama);
-                                                filledDrama = dramaService.fillTWPlatformInformation(filledDrama);
-                                                if (filledDrama != null) {
-                                                    drama = dramaService.updateDrama(existingDrama.getDramaId(), filledDrama, false);
-                                                } else {
-                                                    System.out.println("Drama fetch failed or skipped for tmdbId: " + tmdbWorkId + ", season: " + season);
-                                                    drama = null;
-                                                }
-                                            }   
-                                        }
-                                        else {
-                                            filledDrama = aiService.aiUpdateDramaInfo(filledDrama);
-                                            filledDrama = dramaService.fillTWPlatformInformation(filledDrama);
-                                            if (filledDrama != null) {
-                                                drama = dramaService.saveDrama(filledDrama);
-                                            } else {
-                                                System.out.println("Drama fetch failed or skipped for tmdbId: " + tmdbWorkId + ", season: " + season);
-                                            }
-                                        }
-                                    }
-                                    else {
-                                        System.out.println("Drama fetch failed or skipped for tmdbId: " + tmdbWorkId + ", season: " + season);
-                                        continue;
-                                    }
-
-                                    if (drama != null) {
-                                        // Initialization of sizes to prevent LazyInitializationException
-                                        try {
-                                            if (!drama.equals(null)) {
-                                                drama.getGenres().size();
-                                                drama.getNetworks().size();
-                                                drama.getDramaTwPlatformMap().size();
-                                                drama.getLeadActors().size();
-                                                drama.getDirectorNames().size();
-                                                drama.getScriptwriterNames().size();
-                                                // Only establish new relationships if: 
-                                                // 1. The relationship between the drama and the actor has not been established yet
-                                                // 2. The list of lead actors of the drama does include this actor (previously handled by TmdbDramaClient.java for new dramas, now here we need to handle existing dramas)
-                                                if (!actor.getDramas().contains(drama) && drama.getLeadActors().contains(actor.getChineseName())) {
-                                                    actor.getDramas().add(drama);
-                                                }   
-                                            }
-                                        } catch (Exception e) {
-                                            System.out.println("Exception occurred at drama: " + drama.getChineseName());
-                                            e.printStackTrace();
-                                        }
-                                    }
-                                    
-                                }
-                            }
-                        }
-                    }
+                    AtomicInteger finishedWorks = new AtomicInteger();
+                    filmographyEngine.walk(actor, workNodes, includesExistingWork, incremental, result -> {
+                        System.out.println(actor.getChineseName() + " (" + finishedWorks.incrementAndGet() + "): "
+                            + result.title() + " -> " + result.outcome());
+                        listener.accept(result);
+                    });
                 }
                 
                 // Save the information of the actor to a .json file
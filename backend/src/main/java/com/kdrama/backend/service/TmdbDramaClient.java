@@ -15,6 +15,7 @@ import java.net.URLEncoder;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.io.File;
 
 import org.springframework.stereotype.Component;
@@ -34,6 +35,9 @@ public class TmdbDramaClient {
 
     private static final String BASE_SEARCH_URL = "https://api.themoviedb.org/3/search/tv";
 
+    // Fields converted to Traditional Chinese: drama/genre/network/people names and overviews
+    private static final Set<String> CONVERTED_FIELDS = Set.of("name", "overview");
+
     // Legacy method for searching for TMDB ID by Chinese name (only used in LLM mistakes correction)
     
     public Integer getDramaTmdbIdByDramaName(String chineseName) throws IOException {
@@ -43,7 +47,7 @@ public class TmdbDramaClient {
         String requestUrl = BASE_SEARCH_URL + "?api_key=" + tmdbApiKey + "&language=zh-TW&query=" + query;
 
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (results != null && results.isArray() && results.size() > 0) {
                 for (JsonNode node : results) {
                     String fetchedOriginalLanguage = node.path("original_language").asText();
@@ -61,15 +65,31 @@ public class TmdbDramaClient {
         }      
     }
 
-    public Drama fillDramaOtherInfo(Drama drama) throws IOException {
+    // Consolidated drama document: /tv/{id} with the content ratings, credits, watch providers and the season appended
+    // (append_to_response), so that the fill methods below share one TMDB request instead of making one each
+    // The appended parts are found under "content_ratings", "credits", "watch/providers" and "season/{n}"
+    public JsonNode fetchDramaDocument(Integer tmdbId, Integer seasonNumber) {
         String tmdbApiKey = tmdbProperties.getKey();
+        String requestUrl = BASE_URL + "/" + tmdbId + "?api_key=" + tmdbApiKey + "&language=zh-TW"
+            + "&append_to_response=content_ratings,credits,watch/providers,season/" + seasonNumber;
+
+        try {
+            return JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
+        } catch (Exception e) {
+            System.out.println("Exception Occurred!" + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // dramaDocument: refer to fetchDramaDocument()
+    public Drama fillDramaOtherInfo(Drama drama, JsonNode dramaDocument) throws IOException {
         if (drama == null) {
             return null;
         }
 
         try {
-            String requestUrl = BASE_URL + "/" + drama.getTmdbId() +"?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = dramaDocument;
 
             if ((results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) || !(results.path("original_language").asText().equals("ko"))) {
 
@@ -128,18 +148,16 @@ public class TmdbDramaClient {
         }      
     }
 
-    public Drama fillDramaSeasonalInfo(Drama drama) throws IOException {
-        String tmdbApiKey = tmdbProperties.getKey();
-
-        if (drama == null) {
+    public Drama fillDramaSeasonalInfo(Drama drama, JsonNode dramaDocument) throws IOException {
+        if (drama == null || dramaDocument == null) {
             return null;
         }
         
         try {
-            String requestUrl = BASE_URL + "/" + drama.getTmdbId() + "/season/" + drama.getSeasonNumber() +"?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            // The season is appended to the drama document as "season/{n}"
+            JsonNode results = dramaDocument.path("season/" + drama.getSeasonNumber());
             
-            if (results == null || results.isNull()) {
+            if (results.isMissingNode() || results.isNull()) {
                 return null;
             }
 
@@ -258,27 +276,24 @@ public class TmdbDramaClient {
         }      
     }
 
-    public Drama fillKrAgeRestriction(Drama drama) throws IOException {
-        String tmdbApiKey = tmdbProperties.getKey();
-
-        if (drama == null) {
+    public Drama fillKrAgeRestriction(Drama drama, JsonNode dramaDocument) throws IOException {
+        if (drama == null || dramaDocument == null) {
             return null;
         }
 
-        String requestUrl = BASE_URL + "/" + drama.getTmdbId() +"/content_ratings?api_key=" + tmdbApiKey;
-
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = dramaDocument;
 
-            if (results == null || results.isNull()) {
+            if (results.isNull()) {
                 return null;
             }
 
             if (!results.path("status_message").asText().equals("The resource you requested could not be found.")) {
 
                 // Fill in the Korean Age Restriction
-                if (results.isArray()) {                 
-                    for (JsonNode node : results) {
+                JsonNode ratingNodes = results.path("content_ratings").path("results");
+                if (ratingNodes.isArray()) {                 
+                    for (JsonNode node : ratingNodes) {
                         if (node.path("iso_3166_1").asText().equals("KR")) {
                             drama.setKrAgeRestriction(node.path("rating").asInt());
                         }
@@ -302,7 +317,7 @@ public class TmdbDramaClient {
         }      
     }
 
-    public Drama fillDramaStaff (Drama drama, String searchedActorName) throws IOException {
+    public Drama fillDramaStaff (Drama drama, String searchedActorName, JsonNode dramaDocument) throws IOException {
         String tmdbApiKey = tmdbProperties.getKey();
 
         if (drama == null) {
@@ -310,9 +325,16 @@ public class TmdbDramaClient {
         }
       
         try {
-            String requestUrl = BASE_URL + "/" + drama.getTmdbId() + "/season/" + drama.getSeasonNumber() + "/credits?api_key=" + tmdbApiKey + "&language=zh-TW";
-
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results;
+            if (dramaDocument != null && drama.getSeasonNumber() != null && dramaDocument.path("number_of_seasons").asInt() == drama.getSeasonNumber()) {
+                // The appended "credits" of a TV show are the credits of its latest season
+                results = dramaDocument.path("credits");
+            }
+            else {
+                // Earlier seasons still need their own request
+                String requestUrl = BASE_URL + "/" + drama.getTmdbId() + "/season/" + drama.getSeasonNumber() + "/credits?api_key=" + tmdbApiKey + "&language=zh-TW";
+                results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
+            }
 
             if (results == null || results.isNull()) {
                 return null;
@@ -384,7 +406,7 @@ public class TmdbDramaClient {
         boolean isDrama = false;
 
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (!results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 // Check via "type" and "genres"
                 String type = results.path("type").asText();
@@ -428,7 +450,7 @@ public class TmdbDramaClient {
         Integer totalSeasons = 0;
 
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (!results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 totalSeasons = results.path("number_of_seasons").asInt();
             }
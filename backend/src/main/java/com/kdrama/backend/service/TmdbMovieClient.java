@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -28,6 +29,9 @@ public class TmdbMovieClient {
     private static final String BASE_SEARCH_URL = "https://api.themoviedb.org/3/search/movie";
     private static final String BASE_URL = "https://api.themoviedb.org/3/movie";
 
+    // Fields converted to Traditional Chinese: movie titles, genre/people names and overviews
+    private static final Set<String> CONVERTED_FIELDS = Set.of("title", "name", "overview");
+
     public Integer getMovieTmdbIdByMovieName(String chineseName) throws IOException {
         String tmdbApiKey = tmdbProperties.getKey();
         String query = URLEncoder.encode(chineseName, "UTF-8");
@@ -35,7 +39,7 @@ public class TmdbMovieClient {
         String requestUrl = BASE_SEARCH_URL + "?api_key=" + tmdbApiKey + "&language=zh-TW&query=" + query;
 
         try {
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
             if (results != null && results.isArray() && results.size() > 0) {
                 for (JsonNode node : results) {
                     String fetchedOriginalLanguage = node.path("original_language").asText();
@@ -53,15 +57,30 @@ public class TmdbMovieClient {
         }      
     }
 
-    public Movie fillMovieOtherInfo(Movie movie) throws IOException {
+    // Consolidated movie document: /movie/{id} with the release dates, credits and watch providers appended
+    // (append_to_response), so that the fill methods below share one TMDB request instead of making one each
+    public JsonNode fetchMovieDocument(Integer tmdbId) {
         String tmdbApiKey = tmdbProperties.getKey();
+        String requestUrl = BASE_URL + "/" + tmdbId + "?api_key=" + tmdbApiKey + "&language=zh-TW"
+            + "&append_to_response=release_dates,credits,watch/providers";
+
+        try {
+            return JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
+        } catch (Exception e) {
+            System.out.println("Exception Occurred!" + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // movieDocument: refer to fetchMovieDocument()
+    public Movie fillMovieOtherInfo(Movie movie, JsonNode movieDocument) throws IOException {
         if (movie == null) {
             return null;
         }
 
         try {
-            String requestUrl = BASE_URL + "/" + movie.getTmdbId() + "?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = movieDocument;
             
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 // Fill in additional information from the fetched object
@@ -104,19 +123,18 @@ public class TmdbMovieClient {
         }      
     }
 
-    public Movie fillKrAgeRestriction(Movie movie) throws IOException {
-        String tmdbApiKey = tmdbProperties.getKey();
+    public Movie fillKrAgeRestriction(Movie movie, JsonNode movieDocument) throws IOException {
         if (movie == null) {
             return null;
         }
 
         try {
-            String requestUrl = BASE_URL + "/" + movie.getTmdbId() + "/release_dates?api_key=" + tmdbApiKey;
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
+            JsonNode results = movieDocument;
             if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
                 // Fill in the Korean Age Restriction
-                if (results.isArray()) {
-                    for (JsonNode node : results) {
+                JsonNode releaseDateNodes = results.path("release_dates").path("results");
+                if (releaseDateNodes.isArray()) {
+                    for (JsonNode node : releaseDateNodes) {
                         if (node.path("iso_3166_1").asText().equals("KR")) {
                             movie.setKrAgeRestriction(node.path("release_dates").get(0).path("certification").asInt());
                         }
@@ -139,16 +157,14 @@ public class TmdbMovieClient {
         }      
     }
 
-    public Movie fillMovieStaff (Movie movie) throws IOException {
-        String tmdbApiKey = tmdbProperties.getKey();
+    public Movie fillMovieStaff (Movie movie, JsonNode movieDocument) throws IOException {
         if (movie == null) {
             return null;
         }
 
         try {
-            String requestUrl = BASE_URL + "/" + movie.getTmdbId() + "/credits?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
-            if (results != null && !results.path("status_message").asText().equals("The resource you requested could not be found.")) {
+            if (movieDocument != null && !movieDocument.path("status_message").asText().equals("The resource you requested could not be found.")) {
+                JsonNode results = movieDocument.path("credits");
                 // Fill in additional information from the fetched object
                 // Director and Scriptwriter Names
                 List<String> directorNames = new ArrayList<String>();
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -14,13 +15,19 @@ import com.kdrama.backend.util.JsonNodeRequest;
 @Component
 public class TmdbPlatformClient { // Netflix, Disney+, Prime Video, Apple TV, Catchplay
     private final TmdbProperties tmdbProperties;
+    private final TmdbDramaClient tmdbDramaClient;
+    private final TmdbMovieClient tmdbMovieClient;
 
-    public TmdbPlatformClient(TmdbProperties tmdbProperties) {
+    public TmdbPlatformClient(TmdbProperties tmdbProperties, TmdbDramaClient tmdbDramaClient, TmdbMovieClient tmdbMovieClient) {
         this.tmdbProperties = tmdbProperties;
+        this.tmdbDramaClient = tmdbDramaClient;
+        this.tmdbMovieClient = tmdbMovieClient;
     }
 
     private static final String DRAMA_BASE_URL = "https://api.themoviedb.org/3/tv";
-    private static final String MOVIE_BASE_URL = "https://api.themoviedb.org/3/movie";
+
+    // Network and provider names are compared with English names only, so nothing needs to be converted
+    private static final Set<String> CONVERTED_FIELDS = Set.of();
 
     private static final String NETFLIX_URL = "https://www.netflix.com";
     private static final String DISNEY_PLUS_URL = "https://www.disneyplus.com";
@@ -32,15 +39,25 @@ public class TmdbPlatformClient { // Netflix, Disney+, Prime Video, Apple TV, Ca
     private static final List<String> platformNames = List.of("Netflix", "Disney Plus", "Disney+", "Amazon Prime Video", "Apple TV", "Catchplay", "HBO Max");
 
     public Map<String, String> getIntlPlatformInfoByWorkTmdbId(Integer tmdbId, Integer seasonNumber, String workType) throws IOException {
+        // Same consolidated document as TmdbDramaClient / TmdbMovieClient, so it is usually served by the request coalescer or the response cache
+        JsonNode workDocument = workType.equals("movie") ? tmdbMovieClient.fetchMovieDocument(tmdbId) : tmdbDramaClient.fetchDramaDocument(tmdbId, seasonNumber);
+        return getIntlPlatformInfo(workDocument, tmdbId, seasonNumber, workType);
+    }
+
+    // workDocument: result of TmdbDramaClient.fetchDramaDocument() or TmdbMovieClient.fetchMovieDocument()
+    public Map<String, String> getIntlPlatformInfo(JsonNode workDocument, Integer tmdbId, Integer seasonNumber, String workType) throws IOException {
         String tmdbApiKey = tmdbProperties.getKey();
         String requestUrl = "";
 
         Map<String, String> platformMap = new HashMap<String, String>();
 
         try {
-            requestUrl = DRAMA_BASE_URL + "/" + tmdbId + "/season/" + seasonNumber + "?api_key=" + tmdbApiKey + "&language=zh-TW";
-            JsonNode results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
-            if (results != null && !results.isNull() && platformNames.contains(results.path("networks").path(0).path("name").asText())) {
+            // Networks of the season (dramas only; movies have no networks)
+            JsonNode results = null;
+            if (workDocument != null && workType.equals("drama")) {
+                results = workDocument.path("season/" + seasonNumber);
+            }
+            if (results != null && !results.isMissingNode() && !results.isNull() && platformNames.contains(results.path("networks").path(0).path("name").asText())) {
                 String platformName = results.path("networks").path(0).path("name").asText();
                 if (platformName.equals("Disney+")) {
                     platformName = "Disney Plus";
@@ -75,17 +92,16 @@ public class TmdbPlatformClient { // Netflix, Disney+, Prime Video, Apple TV, Ca
             }
             else {
                 if (workType.equals("drama") && seasonNumber >= 2) {
+                    // Watch providers of later seasons are not part of the drama document
                     requestUrl = DRAMA_BASE_URL + "/" + tmdbId + "/season/" + seasonNumber + "/watch/providers?api_key=" + tmdbApiKey + "&language=zh-TW";
+                    results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl, CONVERTED_FIELDS);
                 }
-                else if (workType.equals("drama") && seasonNumber == 1) {
-                    requestUrl = DRAMA_BASE_URL + "/" + tmdbId + "/watch/providers?api_key=" + tmdbApiKey + "&language=zh-TW";
-                }
-                else if (workType.equals("movie")) {
-                    requestUrl = MOVIE_BASE_URL + "/" + tmdbId + "/watch/providers?api_key=" + tmdbApiKey + "&language=zh-TW";
+                else if (workDocument != null) {
+                    // Season 1 of a drama, or a movie: appended as "watch/providers"
+                    results = workDocument.path("watch/providers").path("results");
                 }
-                results = JsonNodeRequest.getJsonNodebyRequestQuery(requestUrl);
 
-                if (results.size() > 0) {
+                if (results != null && results.size() > 0) {
                     if (workType == "drama") {
                         JsonNode twPlatformNodes = results.path("TW").path("flatrate");
                         if (twPlatformNodes.isArray()) {
@@ -1,23 +1,104 @@
 package com.kdrama.backend.util;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+// Cache files: cache/<name>.json is the current version, cache/history/<name>/<millis>.json are older ones
+// A file is written next to the target first, flushed to disk, then renamed over it,
+// so a reader sees either the old or the new file, never a half-written one
 
 public class CacheFileUtil {
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> CACHE_TYPE = new TypeReference<>() {};
+
+    private static final Path CACHE_DIR = Paths.get("cache");
+    private static final Path HISTORY_DIR = CACHE_DIR.resolve("history");
 
     public static void saveCacheToFile(String filename, Map<String, String> cache) throws IOException {
-        File file = new File("cache/" + filename + ".json");
-        file.getParentFile().mkdirs(); // 確保目錄存在
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, cache);
+        saveCacheToFile(filename, cache, 0);
+    }
+
+    // keptVersions: number of replaced versions kept in cache/history/<name>/ for rollback
+    public static void saveCacheToFile(String filename, Map<String, String> cache, int keptVersions) throws IOException {
+        Path file = CACHE_DIR.resolve(filename + ".json");
+        Files.createDirectories(CACHE_DIR); // 確保目錄存在
+
+        if (keptVersions > 0 && Files.exists(file)) {
+            Path historyDir = HISTORY_DIR.resolve(filename);
+            Files.createDirectories(historyDir);
+            Files.copy(file, historyDir.resolve(System.currentTimeMillis() + ".json"), StandardCopyOption.REPLACE_EXISTING);
+            pruneVersions(filename, keptVersions);
+        }
+
+        // Compact JSON (no pretty printing): the caches are read by the program only
+        Path tempFile = Files.createTempFile(CACHE_DIR, filename, ".tmp");
+        try {
+            ByteBuffer content = ByteBuffer.wrap(objectMapper.writeValueAsBytes(cache));
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                // e.g. some network or container mounts; the rename is then not guaranteed to be atomic
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
     }
 
     public static Map<String, String> loadCacheFromFile(String filename) throws IOException {
-        File file = new File("cache/" + filename + ".json");
-        if (!file.exists()) return new HashMap<>();
-        return objectMapper.readValue(file, Map.class);
+        return readCache(CACHE_DIR.resolve(filename + ".json"));
+    }
+
+    // Replaced versions, newest first (the values are the <millis> of the file names)
+    public static List<Long> listVersions(String filename) throws IOException {
+        Path historyDir = HISTORY_DIR.resolve(filename);
+        List<Long> versions = new ArrayList<>();
+        if (!Files.isDirectory(historyDir)) return versions;
+
+        try (Stream<Path> files = Files.list(historyDir)) {
+            files.map(path -> path.getFileName().toString())
+                 .filter(name -> name.matches("\\d+\\.json"))
+                 .map(name -> Long.parseLong(name.substring(0, name.length() - ".json".length())))
+                 .sorted((a, b) -> Long.compare(b, a))
+                 .forEach(versions::add);
+        }
+        return versions;
+    }
+
+    public static Map<String, String> loadVersionFromFile(String filename, long version) throws IOException {
+        return readCache(HISTORY_DIR.resolve(filename).resolve(version + ".json"));
+    }
+
+    private static Map<String, String> readCache(Path file) throws IOException {
+        if (!Files.exists(file)) return new HashMap<>();
+        // Pretty-printed files written by older versions are read the same way
+        return objectMapper.readValue(file.toFile(), CACHE_TYPE);
+    }
+
+    private static void pruneVersions(String filename, int keptVersions) throws IOException {
+        List<Long> versions = listVersions(filename);
+        for (Long version : versions.subList(Math.min(keptVersions, versions.size()), versions.size())) {
+            Files.deleteIfExists(HISTORY_DIR.resolve(filename).resolve(version + ".json"));
+        }
     }
 }
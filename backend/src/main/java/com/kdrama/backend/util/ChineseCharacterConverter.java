@@ -1,14 +1,146 @@
 package com.kdrama.backend.util;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 // Chinese Character Converter Library from GitHub
 import com.github.houbb.opencc4j.util.ZhConverterUtil;
 
+// The OpenCC dictionaries shipped inside opencc4j are loaded once into a DoubleArrayTrie and
+// converted with longest-match segmentation (phrases first, then single characters), like OpenCC itself
+// Short strings (genre, network and person names) are memoized in a bounded concurrent cache (Caffeine),
+// and pure ASCII input is returned as is
+// If the dictionary files cannot be found, ZhConverterUtil is used instead
+
 public class ChineseCharacterConverter {
+    private static final String DICTIONARY_PATH = "data/dictionary/";
+
+    // Only short strings are memoized; long texts (e.g. overviews) are rarely repeated
+    private static final int CACHE_MAX_KEY_LENGTH = 32;
+    private static final int CACHE_MAX_ENTRIES = 10000;
+
+    // Reads do not lock, unlike a synchronized LinkedHashMap whose every get() reorders the entries
+    private static final Cache<String, String> traditionalCache = Caffeine.newBuilder().maximumSize(CACHE_MAX_ENTRIES).build();
+    private static final Cache<String, String> simplifiedCache = Caffeine.newBuilder().maximumSize(CACHE_MAX_ENTRIES).build();
+
+    // Lazy holders: each dictionary is loaded on first use only
+    private static class TraditionalDictionary {
+        static final DoubleArrayTrie TRIE = loadDictionary("STPhrases.txt", "STCharacters.txt");
+    }
+
+    private static class SimplifiedDictionary {
+        static final DoubleArrayTrie TRIE = loadDictionary("TSPhrases.txt", "TSCharacters.txt");
+    }
+
     public static String toTraditional(String text) {
-        return ZhConverterUtil.toTraditional(text);
+        if (isAscii(text)) {
+            return text;
+        }
+        return convertWithCache(text, traditionalCache, true);
     }
 
     public static String toSimplified(String text) {
-        return ZhConverterUtil.toSimple(text);
+        if (isAscii(text)) {
+            return text;
+        }
+        return convertWithCache(text, simplifiedCache, false);
+    }
+
+    private static String convertWithCache(String text, Cache<String, String> cache, boolean toTraditional) {
+        if (text.length() > CACHE_MAX_KEY_LENGTH) {
+            return convert(text, toTraditional);
+        }
+        return cache.get(text, key -> convert(key, toTraditional));
+    }
+
+    private static String convert(String text, boolean toTraditional) {
+        DoubleArrayTrie trie = toTraditional ? TraditionalDictionary.TRIE : SimplifiedDictionary.TRIE;
+        if (trie == null) {
+            return toTraditional ? ZhConverterUtil.toTraditional(text) : ZhConverterUtil.toSimple(text);
+        }
+
+        StringBuilder result = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                // ASCII characters never have dictionary entries
+                result.append(c);
+                i++;
+                continue;
+            }
+
+            int match = trie.longestMatch(text, i);
+            if (match < 0) {
+                result.append(c);
+                i++;
+            } else {
+                result.append(trie.valueAt(match));
+                i += trie.keyLength(match);
+            }
+        }
+        return result.toString();
+    }
+
+    // null and empty strings count as ASCII so that they are returned unchanged
+    private static boolean isAscii(String text) {
+        if (text == null) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Dictionary format (OpenCC): "key<TAB>candidate1 candidate2 ..."; the first candidate is used
+    // Phrase entries win over character entries with the same key
+    private static DoubleArrayTrie loadDictionary(String phraseFile, String characterFile) {
+        Map<String, String> entries = new TreeMap<>();
+        try {
+            if (!readDictionaryFile(characterFile, entries) || !readDictionaryFile(phraseFile, entries)) {
+                System.err.println("OpenCC dictionary " + characterFile + " / " + phraseFile + " not found, falling back to ZhConverterUtil");
+                return null;
+            }
+            return new DoubleArrayTrie(entries.keySet().toArray(new String[0]), entries.values().toArray(new String[0]));
+        } catch (Exception e) {
+            System.err.println("Failed to load OpenCC dictionaries, falling back to ZhConverterUtil: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean readDictionaryFile(String fileName, Map<String, String> entries) throws IOException {
+        InputStream in = ChineseCharacterConverter.class.getClassLoader().getResourceAsStream(DICTIONARY_PATH + fileName);
+        if (in == null) {
+            return false;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0 || line.startsWith("#")) {
+                    continue;
+                }
+                String key = line.substring(0, tab);
+                String candidates = line.substring(tab + 1).trim();
+                int space = candidates.indexOf(' ');
+                String value = space < 0 ? candidates : candidates.substring(0, space);
+                if (!value.isEmpty()) {
+                    entries.put(key, value);
+                }
+            }
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
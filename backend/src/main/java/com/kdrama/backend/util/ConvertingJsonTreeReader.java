@@ -0,0 +1,83 @@
+package com.kdrama.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// Builds a JsonNode tree directly from a response stream with a streaming JsonParser
+// Only the string values of the given field names (e.g. "name", "overview") are converted to Traditional Chinese,
+// so keys, URLs, dates and English enum-like values (e.g. "Scripted", "Director") are never touched
+// and the response body is never copied into a String first
+
+public class ConvertingJsonTreeReader {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    public static JsonNode read(InputStream in, Set<String> fieldsToConvert) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return MissingNode.getInstance();
+            }
+            return readValue(parser, token, null, fieldsToConvert);
+        }
+    }
+
+    // fieldName is the name of the field holding this value; array elements keep the name of their array (e.g. "also_known_as")
+    private static JsonNode readValue(JsonParser parser, JsonToken token, String fieldName, Set<String> fieldsToConvert) throws IOException {
+        switch (token) {
+            case START_OBJECT: {
+                ObjectNode objectNode = nodeFactory.objectNode();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String childName = parser.currentName();
+                    JsonToken childToken = parser.nextToken();
+                    objectNode.set(childName, readValue(parser, childToken, childName, fieldsToConvert));
+                }
+                return objectNode;
+            }
+            case START_ARRAY: {
+                ArrayNode arrayNode = nodeFactory.arrayNode();
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    arrayNode.add(readValue(parser, elementToken, fieldName, fieldsToConvert));
+                }
+                return arrayNode;
+            }
+            case VALUE_STRING: {
+                String text = parser.getText();
+                if (fieldName != null && fieldsToConvert.contains(fieldName)) {
+                    text = ChineseCharacterConverter.toTraditional(text);
+                }
+                return nodeFactory.textNode(text);
+            }
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return nodeFactory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return nodeFactory.numberNode(parser.getLongValue());
+                    default:
+                        return nodeFactory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                return nodeFactory.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return nodeFactory.booleanNode(true);
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(false);
+            case VALUE_NULL:
+                return nodeFactory.nullNode();
+            default:
+                throw new IOException("Unexpected JSON token " + token + " at " + parser.currentLocation());
+        }
+    }
+}
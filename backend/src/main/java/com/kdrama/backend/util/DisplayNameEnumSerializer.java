@@ -3,15 +3,44 @@ package com.kdrama.backend.util;
 import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.kdrama.backend.enums.HasDisplayName;
 
 // Generated by ChatGPT
 // To control whether loaded Json enum is displayed as name (e.g. MALE, FEMALE) or displayName (e.g. 男, 女)
+// The texts of every enum class are encoded once (SerializedString) and reused by every response (refer to JsonResponseWriters.java)
 
 public class DisplayNameEnumSerializer extends StdSerializer<Enum> {
 
+    // Indexed by ordinal
+    private static final ClassValue<SerializedString[]> DISPLAY_NAMES = new ClassValue<>() {
+        @Override
+        protected SerializedString[] computeValue(Class<?> enumClass) {
+            Object[] constants = enumClass.getEnumConstants();
+            SerializedString[] texts = new SerializedString[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                Enum<?> constant = (Enum<?>) constants[i];
+                texts[i] = new SerializedString(constant instanceof HasDisplayName hasDisplayName
+                    ? hasDisplayName.getDisplayName() : constant.name());
+            }
+            return texts;
+        }
+    };
+
+    private static final ClassValue<SerializedString[]> NAMES = new ClassValue<>() {
+        @Override
+        protected SerializedString[] computeValue(Class<?> enumClass) {
+            Object[] constants = enumClass.getEnumConstants();
+            SerializedString[] texts = new SerializedString[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                texts[i] = new SerializedString(((Enum<?>) constants[i]).name());
+            }
+            return texts;
+        }
+    };
+
     private boolean displayNameMode = true;
 
     public DisplayNameEnumSerializer() {
@@ -25,10 +54,8 @@ public class DisplayNameEnumSerializer extends StdSerializer<Enum> {
 
     @Override
     public void serialize(Enum value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        if (displayNameMode && value instanceof HasDisplayName) {
-            gen.writeString(((HasDisplayName) value).getDisplayName());
-        } else {
-            gen.writeString(value.name());
-        }
+        // getDeclaringClass(): constants with a body are subclasses of their enum
+        ClassValue<SerializedString[]> texts = displayNameMode ? DISPLAY_NAMES : NAMES;
+        gen.writeString(texts.get(value.getDeclaringClass())[value.ordinal()]);
     }
 }
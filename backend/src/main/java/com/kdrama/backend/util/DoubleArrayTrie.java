@@ -0,0 +1,229 @@
+package com.kdrama.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Compact read-only double-array trie (same construction as Darts / darts-java)
+// Used by ChineseCharacterConverter.java to look up OpenCC dictionary entries with longest-match segmentation
+// Keys are stored as UTF-16 code units; a node's children live at base[node] + (char + 1) and point back via check[]
+
+public class DoubleArrayTrie {
+    private int[] base;
+    private int[] check;
+    private boolean[] used;
+    private int size;
+    private int nextCheckPos;
+
+    private final String[] keys;
+    private final String[] values;
+
+    private static class Node {
+        int code;
+        int depth;
+        int left;
+        int right;
+    }
+
+    // keys must be sorted (String natural order) and free of duplicates; values[i] belongs to keys[i]
+    public DoubleArrayTrie(String[] keys, String[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("keys and values must have the same length");
+        }
+        this.keys = keys;
+        this.values = values;
+        build();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    // Returns the value of the exact key, or null
+    public String get(String key) {
+        int b = base[0];
+        int p;
+        for (int i = 0; i < key.length(); i++) {
+            p = b + key.charAt(i) + 1;
+            if (p >= size || b != check[p]) {
+                return null;
+            }
+            b = base[p];
+        }
+        p = b;
+        if (p < size && b == check[p] && base[p] < 0) {
+            return values[-base[p] - 1];
+        }
+        return null;
+    }
+
+    // Finds the longest key that starts at text[start]
+    // Returns the index of the key (use keyLength()/valueAt()), or -1 if no key matches
+    public int longestMatch(CharSequence text, int start) {
+        int b = base[0];
+        int p;
+        int result = -1;
+
+        for (int i = start; i < text.length(); i++) {
+            // A key ends here?
+            p = b;
+            if (p < size && b == check[p] && base[p] < 0) {
+                result = -base[p] - 1;
+            }
+
+            p = b + text.charAt(i) + 1;
+            if (p >= size || b != check[p]) {
+                return result;
+            }
+            b = base[p];
+        }
+
+        p = b;
+        if (p < size && b == check[p] && base[p] < 0) {
+            result = -base[p] - 1;
+        }
+        return result;
+    }
+
+    public int keyLength(int index) {
+        return keys[index].length();
+    }
+
+    public String valueAt(int index) {
+        return values[index];
+    }
+
+    private void build() {
+        base = new int[65536 * 2];
+        check = new int[base.length];
+        used = new boolean[base.length];
+        size = 0;
+        nextCheckPos = 0;
+
+        Node root = new Node();
+        root.left = 0;
+        root.right = keys.length;
+        root.depth = 0;
+
+        List<Node> siblings = fetch(root);
+        // insert() may grow base[], so keep the result in a local before storing it
+        int rootBegin = siblings.isEmpty() ? 1 : insert(siblings);
+        base[0] = rootBegin;
+        size = Math.max(size, 1);
+
+        // Shrink to the used part only
+        base = Arrays.copyOf(base, size + 65537);
+        check = Arrays.copyOf(check, size + 65537);
+        size = base.length;
+        used = null;
+    }
+
+    private List<Node> fetch(Node parent) {
+        List<Node> siblings = new ArrayList<>();
+        int prev = 0;
+
+        for (int i = parent.left; i < parent.right; i++) {
+            String key = keys[i];
+            if (key.length() < parent.depth) {
+                continue;
+            }
+
+            int cur = 0;
+            if (key.length() != parent.depth) {
+                cur = key.charAt(parent.depth) + 1;
+            }
+
+            if (prev > cur) {
+                throw new IllegalArgumentException("Keys are not sorted: " + key);
+            }
+
+            if (cur != prev || siblings.isEmpty()) {
+                Node node = new Node();
+                node.depth = parent.depth + 1;
+                node.code = cur;
+                node.left = i;
+                if (!siblings.isEmpty()) {
+                    siblings.get(siblings.size() - 1).right = i;
+                }
+                siblings.add(node);
+            }
+
+            prev = cur;
+        }
+
+        if (!siblings.isEmpty()) {
+            siblings.get(siblings.size() - 1).right = parent.right;
+        }
+        return siblings;
+    }
+
+    private int insert(List<Node> siblings) {
+        int begin;
+        int pos = Math.max(siblings.get(0).code + 1, nextCheckPos) - 1;
+        int nonZeroNum = 0;
+        boolean first = true;
+        int lastCode = siblings.get(siblings.size() - 1).code;
+
+        outer:
+        while (true) {
+            pos++;
+            ensureCapacity(pos + 1);
+
+            if (check[pos] != 0) {
+                nonZeroNum++;
+                continue;
+            } else if (first) {
+                nextCheckPos = pos;
+                first = false;
+            }
+
+            begin = pos - siblings.get(0).code;
+            ensureCapacity(begin + lastCode + 1);
+
+            if (used[begin]) {
+                continue;
+            }
+
+            for (int i = 1; i < siblings.size(); i++) {
+                if (check[begin + siblings.get(i).code] != 0) {
+                    continue outer;
+                }
+            }
+            break;
+        }
+
+        // Skip densely used regions next time (heuristic from Darts)
+        if (1.0 * nonZeroNum / (pos - nextCheckPos + 1) >= 0.95) {
+            nextCheckPos = pos;
+        }
+
+        used[begin] = true;
+        size = Math.max(size, begin + lastCode + 1);
+
+        for (Node sibling : siblings) {
+            check[begin + sibling.code] = begin;
+        }
+
+        for (Node sibling : siblings) {
+            List<Node> children = fetch(sibling);
+            if (children.isEmpty()) {
+                // Leaf: store the key index as a negative number
+                base[begin + sibling.code] = -sibling.left - 1;
+            } else {
+                int h = insert(children);
+                base[begin + sibling.code] = h;
+            }
+        }
+        return begin;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= base.length) {
+            return;
+        }
+        int newLength = Math.max(required, base.length + base.length / 2);
+        base = Arrays.copyOf(base, newLength);
+        check = Arrays.copyOf(check, newLength);
+        used = Arrays.copyOf(used, newLength);
+    }
+}
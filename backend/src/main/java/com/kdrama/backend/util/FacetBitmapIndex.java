@@ -0,0 +1,218 @@
+package com.kdrama.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+// In-memory faceted filter over work ids (refer to CatalogSearchService.java)
+// - One compressed (Roaring) bitmap of ids per facet value, e.g. genre "愛情" -> {3, 8, 42, ...}
+// - A query is an AND of clauses, a clause is an OR of (facet, value) terms,
+//   e.g. (genre:愛情 OR genre:喜劇) AND (platform:Netflix) AND (status:COMPLETED)
+// - Counts of every facet value are computed for the clauses of the other facets only,
+//   so the other values of a facet that is filtered already still show how many works they would add
+// - Reads share a lock, updates (put / remove) take it exclusively
+
+public class FacetBitmapIndex {
+
+    public record Term(String facet, String value) {}
+
+    // ids: ascending, from offset on, at most limit; counts: facet -> value -> number of works
+    public record Result(int total, int[] ids, Map<String, Map<String, Integer>> counts) {}
+
+    private final List<String> facets;
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new HashMap<>();
+    private final Map<Integer, Map<String, Set<String>>> valuesById = new HashMap<>(); // To remove an id from its bitmaps
+    private final RoaringBitmap allIds = new RoaringBitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FacetBitmapIndex(List<String> facets) {
+        this.facets = List.copyOf(facets);
+        for (String facet : facets) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+    }
+
+    public List<String> getFacets() {
+        return facets;
+    }
+
+    public boolean hasFacet(String facet) {
+        return bitmaps.containsKey(facet);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allIds.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replaces the values of this id; facets missing in values have none
+    public void put(int id, Map<String, ? extends Collection<String>> values) {
+        Map<String, Set<String>> newValues = new HashMap<>();
+        for (String facet : facets) {
+            Collection<String> facetValues = values.get(facet);
+            if (facetValues != null) {
+                Set<String> nonNullValues = new HashSet<>();
+                for (String value : facetValues) {
+                    if (value != null && !value.isBlank()) {
+                        nonNullValues.add(value);
+                    }
+                }
+                newValues.put(facet, nonNullValues);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeFromBitmaps(id);
+            allIds.add(id);
+            valuesById.put(id, newValues);
+            for (Map.Entry<String, Set<String>> entry : newValues.entrySet()) {
+                Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(entry.getKey());
+                for (String value : entry.getValue()) {
+                    facetBitmaps.computeIfAbsent(value, v -> new RoaringBitmap()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeFromBitmaps(id);
+            allIds.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Compresses runs of consecutive ids, e.g. after the index was filled
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            allIds.runOptimize();
+            for (Map<String, RoaringBitmap> facetBitmaps : bitmaps.values()) {
+                for (RoaringBitmap bitmap : facetBitmaps.values()) {
+                    bitmap.runOptimize();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Throws IllegalArgumentException for an unknown facet
+    public Result search(List<List<Term>> clauses, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> clauseBitmaps = new ArrayList<>();
+            List<Set<String>> clauseFacets = new ArrayList<>();
+            for (List<Term> clause : clauses) {
+                List<RoaringBitmap> termBitmaps = new ArrayList<>();
+                Set<String> facetsOfClause = new HashSet<>();
+                for (Term term : clause) {
+                    Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(term.facet());
+                    if (facetBitmaps == null) {
+                        throw new IllegalArgumentException("Unknown facet " + term.facet() + ", expected one of " + facets);
+                    }
+                    facetsOfClause.add(term.facet());
+                    RoaringBitmap bitmap = facetBitmaps.get(term.value());
+                    if (bitmap != null) {
+                        termBitmaps.add(bitmap);
+                    }
+                }
+                clauseBitmaps.add(termBitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.or(termBitmaps.iterator()));
+                clauseFacets.add(facetsOfClause);
+            }
+
+            RoaringBitmap matches = intersect(clauseBitmaps);
+
+            Map<String, Map<String, Integer>> counts = new TreeMap<>();
+            for (String facet : facets) {
+                // Leave out the clauses on this facet, so that its other values are counted as well
+                List<RoaringBitmap> otherClauses = new ArrayList<>();
+                for (int i = 0; i < clauseBitmaps.size(); i++) {
+                    if (!clauseFacets.get(i).contains(facet)) {
+                        otherClauses.add(clauseBitmaps.get(i));
+                    }
+                }
+                RoaringBitmap base = otherClauses.size() == clauseBitmaps.size() ? matches : intersect(otherClauses);
+
+                Map<String, Integer> facetCounts = new TreeMap<>();
+                for (Map.Entry<String, RoaringBitmap> entry : bitmaps.get(facet).entrySet()) {
+                    int count = RoaringBitmap.andCardinality(base, entry.getValue());
+                    if (count > 0) {
+                        facetCounts.put(entry.getKey(), count);
+                    }
+                }
+                counts.put(facet, facetCounts);
+            }
+
+            return new Result(matches.getCardinality(), idsOf(matches, offset, limit), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap intersect(List<RoaringBitmap> clauseBitmaps) {
+        if (clauseBitmaps.isEmpty()) {
+            return allIds;
+        }
+        // Smallest first, so that the intermediate results stay small
+        List<RoaringBitmap> sorted = new ArrayList<>(clauseBitmaps);
+        sorted.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+        return FastAggregation.and(sorted.iterator());
+    }
+
+    private int[] idsOf(RoaringBitmap matches, int offset, int limit) {
+        int total = matches.getCardinality();
+        if (offset >= total || limit <= 0) {
+            return new int[0];
+        }
+        int[] ids = new int[Math.min(limit, total - offset)];
+        PeekableIntIterator iterator = matches.getIntIterator();
+        if (offset > 0) {
+            iterator.advanceIfNeeded(matches.select(offset)); // select(): the offset-th smallest id
+        }
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = iterator.next();
+        }
+        return ids;
+    }
+
+    // Only called while holding the write lock
+    private void removeFromBitmaps(int id) {
+        Map<String, Set<String>> oldValues = valuesById.remove(id);
+        if (oldValues == null) {
+            return;
+        }
+        for (Map.Entry<String, Set<String>> entry : oldValues.entrySet()) {
+            Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(entry.getKey());
+            for (String value : entry.getValue()) {
+                RoaringBitmap bitmap = facetBitmaps.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                    if (bitmap.isEmpty()) {
+                        facetBitmaps.remove(value);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.kdrama.backend.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.github.resilience4j.ratelimiter.*;
 import io.github.resilience4j.retry.*;
@@ -20,6 +24,17 @@ public class JsonNodeRequest {
     private static final RateLimiter rateLimiter;
     private static final Retry retry;
 
+    // Textual fields converted to Traditional Chinese when a client does not declare its own set
+    // (zh-TW responses from TMDB sometimes still contain Simplified Chinese names and overviews)
+    public static final Set<String> DEFAULT_CONVERTED_FIELDS = Set.of("name", "title", "overview", "biography", "tagline");
+
+    // Used by the async API to schedule retries without blocking a thread during the backoff
+    private static final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "tmdb-retry-scheduler");
+        t.setDaemon(true);
+        return t;
+    });
+
     static {
         RateLimiterConfig rlConfig = RateLimiterConfig.custom()
                 .limitRefreshPeriod(Duration.ofSeconds(1))
@@ -37,11 +52,28 @@ public class JsonNodeRequest {
     }
 
     public static JsonNode getJsonNodebyRequestQuery(String requestUrl) throws Exception {
+        return getJsonNodebyRequestQuery(requestUrl, DEFAULT_CONVERTED_FIELDS);
+    }
+
+    // fieldsToConvert: names of the fields whose string values should be converted to Traditional Chinese
+    // Identical requests made at the same time (or right after each other) share one call, refer to TmdbRequestCoalescer.java
+    public static JsonNode getJsonNodebyRequestQuery(String requestUrl, Set<String> fieldsToConvert) throws Exception {
+        return TmdbRequestCoalescer.execute(requestUrl, fieldsToConvert, () -> loadJsonNode(requestUrl, fieldsToConvert));
+    }
+
+    private static JsonNode loadJsonNode(String requestUrl, Set<String> fieldsToConvert) throws Exception {
+        // Fresh responses from the local cache need no HTTP call and do not count against the rate limit
+        TmdbResponseCache.Entry cachedEntry = TmdbResponseCache.lookup(requestUrl);
+        JsonNode cachedNode = readFreshCachedEntry(cachedEntry, fieldsToConvert);
+        if (cachedNode != null) {
+            return cachedNode;
+        }
+
         // With resilience
         Supplier<JsonNode> decorated = null;
 
         try {
-            decorated = Decorators.ofSupplier(() -> fetchJson(requestUrl))
+            decorated = Decorators.ofSupplier(() -> fetchJson(requestUrl, fieldsToConvert, cachedEntry))
                 .withRetry(retry)
                 .withRateLimiter(rateLimiter)
                 .decorate();
@@ -60,38 +92,128 @@ public class JsonNodeRequest {
         return decorated.get();
     }
 
+    // Async version of getJsonNodebyRequestQuery(), sharing the same rate limiter and retry policy
+    // so that TMDB clients can fire several requests at once (e.g. CompletableFuture.allOf(...)) and still stay within the limit
+    public static CompletableFuture<JsonNode> getJsonNodebyRequestQueryAsync(String requestUrl) {
+        return getJsonNodebyRequestQueryAsync(requestUrl, DEFAULT_CONVERTED_FIELDS);
+    }
+
+    public static CompletableFuture<JsonNode> getJsonNodebyRequestQueryAsync(String requestUrl, Set<String> fieldsToConvert) {
+        return TmdbRequestCoalescer.executeAsync(requestUrl, fieldsToConvert, () -> loadJsonNodeAsync(requestUrl, fieldsToConvert));
+    }
+
+    private static CompletableFuture<JsonNode> loadJsonNodeAsync(String requestUrl, Set<String> fieldsToConvert) {
+        TmdbResponseCache.Entry cachedEntry = TmdbResponseCache.lookup(requestUrl);
+        JsonNode cachedNode = readFreshCachedEntry(cachedEntry, fieldsToConvert);
+        if (cachedNode != null) {
+            return CompletableFuture.completedFuture(cachedNode);
+        }
+
+        Supplier<CompletionStage<JsonNode>> decorated = Decorators.ofCompletionStage(() -> fetchJsonAsync(requestUrl, fieldsToConvert, cachedEntry))
+            .withRetry(retry, retryScheduler)
+            .withRateLimiter(rateLimiter)
+            .decorate();
+
+        return decorated.get().toCompletableFuture();
+    }
+
+    // Returns the parsed cached response if it is still within its TTL, otherwise null (and counts a miss)
+    private static JsonNode readFreshCachedEntry(TmdbResponseCache.Entry cachedEntry, Set<String> fieldsToConvert) {
+        if (!TmdbResponseCache.isEnabled()) {
+            return null;
+        }
+        if (cachedEntry == null || !cachedEntry.isFresh()) {
+            TmdbResponseCache.recordMiss();
+            return null;
+        }
+
+        try {
+            JsonNode node = unwrapResults(ConvertingJsonTreeReader.read(new ByteArrayInputStream(cachedEntry.body()), fieldsToConvert));
+            TmdbResponseCache.recordHit();
+            return node;
+        } catch (IOException e) {
+            System.err.println("Failed to parse cached TMDB response for " + cachedEntry.url() + ": " + e.getMessage());
+            TmdbResponseCache.recordMiss();
+            return null;
+        }
+    }
+
     // Separate logic for fetching Json
-    private static JsonNode fetchJson(String requestUrl) {
-        JsonNode rootNode = null;
-        
+    // cachedEntry: stale cache entry to revalidate (If-None-Match / If-Modified-Since), or null
+    private static JsonNode fetchJson(String requestUrl, Set<String> fieldsToConvert, TmdbResponseCache.Entry cachedEntry) {
+        HttpResponse<InputStream> response;
+
         try {
-            URL url = URI.create(requestUrl).toURL();
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-        
-            try (Scanner sc = new Scanner(conn.getInputStream(), "UTF-8")) {
-                StringBuilder jsonText = new StringBuilder();
-                while (sc.hasNext()) {
-                    jsonText.append(sc.nextLine());
-                }
-
-                ObjectMapper mapper = new ObjectMapper();
-                rootNode = mapper.readTree(ChineseCharacterConverter.toTraditional(jsonText.toString()));
-                JsonNode resultsNode = null;
-                if (rootNode.path("status_message").asText().equals("The resource you requested could not be found.")) {
-                    return rootNode;
-                }
-                else if (rootNode.has("results")) {
-                    resultsNode = rootNode.path("results");
-                } else {
-                    resultsNode = rootNode;
-                }
-                return resultsNode;
+            response = TmdbHttpTransport.send(requestUrl, TmdbResponseCache.conditionalHeaders(cachedEntry));
+        } catch (IOException e) {
+            // Network problems can be retried by the Retry decorator
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Interrupted while calling TMDB API: " + requestUrl);
+            return null;
+        }
+
+        return readResponse(response, fieldsToConvert, cachedEntry);
+    }
+
+    private static CompletableFuture<JsonNode> fetchJsonAsync(String requestUrl, Set<String> fieldsToConvert, TmdbResponseCache.Entry cachedEntry) {
+        return TmdbHttpTransport.sendAsync(requestUrl, TmdbResponseCache.conditionalHeaders(cachedEntry))
+            .thenApply(response -> readResponse(response, fieldsToConvert, cachedEntry));
+    }
+
+    private static JsonNode readResponse(HttpResponse<InputStream> response, Set<String> fieldsToConvert, TmdbResponseCache.Entry cachedEntry) {
+        JsonNode rootNode = null;
+
+        try (InputStream body = response.body()) {
+            int statusCode = response.statusCode();
+            if (statusCode == 304 && cachedEntry != null) {
+                // Not modified since the cached copy: reuse it for another TTL period
+                TmdbResponseCache.markRevalidated(cachedEntry);
+                return unwrapResults(ConvertingJsonTreeReader.read(new ByteArrayInputStream(cachedEntry.body()), fieldsToConvert));
+            }
+            if (TmdbHttpTransport.isRetryableStatus(statusCode)) {
+                // Let the Retry decorator try again later
+                throw new UncheckedIOException(new IOException("TMDB API responded with HTTP " + statusCode + ": " + response.uri()));
+            }
+            if (statusCode >= 400) {
+                // Same as the previous HttpURLConnection behaviour: error responses are treated as "no result"
+                System.out.println("Exception Occurred while calling TMDB API: HTTP " + statusCode + " for " + response.uri());
+                return null;
+            }
+
+            if (TmdbResponseCache.isEnabled()) {
+                // The raw bytes are kept once so they can be written to the cache; no String copy is made
+                byte[] bytes = body.readAllBytes();
+                rootNode = ConvertingJsonTreeReader.read(new ByteArrayInputStream(bytes), fieldsToConvert);
+                TmdbResponseCache.store(response.uri().toString(),
+                    response.headers().firstValue("ETag").orElse(""),
+                    response.headers().firstValue("Last-Modified").orElse(""),
+                    bytes, rootNode);
+            } else {
+                // Parse straight from the stream; only the declared fields are converted to Traditional Chinese
+                rootNode = ConvertingJsonTreeReader.read(body, fieldsToConvert);
             }
+            return unwrapResults(rootNode);
 
+        } catch (UncheckedIOException e) {
+            throw e;
         } catch (Exception e) {
             System.out.println("Exception Occurred while calling TMDB API: " + e.getMessage());
             return rootNode;
         }
     }
+
+    private static JsonNode unwrapResults(JsonNode rootNode) {
+        JsonNode resultsNode = null;
+        if (rootNode.path("status_message").asText().equals("The resource you requested could not be found.")) {
+            return rootNode;
+        }
+        else if (rootNode.has("results")) {
+            resultsNode = rootNode.path("results");
+        } else {
+            resultsNode = rootNode;
+        }
+        return resultsNode;
+    }
 }
@@ -0,0 +1,137 @@
+package com.kdrama.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+// Keyset ("seek") pagination over (sort key, id) for the /findAll endpoints
+// - The next page starts after the last row of the previous one (WHERE key > ? OR (key = ? AND id > ?)) instead of an OFFSET,
+//   so every page costs the same, however deep it is, and rows added in the meantime do not shift the pages
+// - The cursor is the sort key and id of that last row, encoded as an opaque string; it is only valid for the same sort
+// - NULL sort keys are treated as the lowest values (as MySQL and H2 sort them), so they come first in ascending order
+
+public class KeysetPagination {
+    public static final int DEFAULT_PAGE_SIZE = 24;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // after: null for the first page
+    public record Request(String sortKey, boolean descending, int size, Cursor after) {}
+
+    // lastKey: the sort key of the last row as text, null if it had none
+    public record Cursor(String sortKey, boolean descending, String lastKey, Integer lastId) {}
+
+    // nextCursor: null on the last page
+    public record Page<T>(List<T> items, String nextCursor) {}
+
+    // sortKeys: the properties that can be sorted by, besides the id
+    // Throws IllegalArgumentException for an unknown sort key, a page size out of range or a cursor of another sort
+    public static Request request(String sortKey, String order, Integer size, String cursor, String idField, Set<String> sortKeys) {
+        String key = (sortKey == null || sortKey.isBlank() || sortKey.equals("id")) ? idField : sortKey;
+        if (!key.equals(idField) && !sortKeys.contains(key)) {
+            throw new IllegalArgumentException("Unknown sort key " + sortKey + ", expected one of " + sortKeys);
+        }
+        boolean descending = "desc".equalsIgnoreCase(order);
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size has to be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Cursor after = cursor != null && !cursor.isBlank() ? decode(cursor) : null;
+        if (after != null && (!after.sortKey().equals(key) || after.descending() != descending)) {
+            throw new IllegalArgumentException("The cursor belongs to another sort order");
+        }
+        return new Request(key, descending, pageSize, after);
+    }
+
+    // Rows after the cursor; matches every row on the first page
+    public static <T> Specification<T> after(Request request, String idField) {
+        return (root, query, cb) -> {
+            Cursor after = request.after();
+            if (after == null) {
+                return cb.conjunction();
+            }
+            Path<Integer> id = root.get(idField);
+            Predicate idAfter = request.descending() ? cb.lessThan(id, after.lastId()) : cb.greaterThan(id, after.lastId());
+            if (request.sortKey().equals(idField)) {
+                return idAfter;
+            }
+
+            Path<Comparable<Object>> key = root.get(request.sortKey());
+            if (after.lastKey() == null) {
+                // Ascending: the other NULL rows, then every row with a key; descending: NULL rows come last
+                return request.descending()
+                    ? cb.and(cb.isNull(key), idAfter)
+                    : cb.or(cb.and(cb.isNull(key), idAfter), cb.isNotNull(key));
+            }
+            Comparable<Object> lastKey = parseKey(key.getJavaType(), after.lastKey());
+            Predicate keyAfter = request.descending() ? cb.lessThan(key, lastKey) : cb.greaterThan(key, lastKey);
+            Predicate sameKey = cb.and(cb.equal(key, lastKey), idAfter);
+            return request.descending()
+                ? cb.or(keyAfter, sameKey, cb.isNull(key))
+                : cb.or(keyAfter, sameKey);
+        };
+    }
+
+    // The id breaks ties, so the order is total
+    public static Sort sort(Request request, String idField) {
+        Sort.Direction direction = request.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (request.sortKey().equals(idField)) {
+            return Sort.by(direction, idField);
+        }
+        return Sort.by(direction, request.sortKey(), idField);
+    }
+
+    // rows: fetched with a limit of size + 1, the extra row only tells that there is a next page
+    public static <T> Page<T> page(List<T> rows, Request request, String idField) {
+        if (rows.size() <= request.size()) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, request.size());
+        BeanWrapperImpl last = new BeanWrapperImpl(items.get(items.size() - 1));
+        Object lastKey = last.getPropertyValue(request.sortKey());
+        Integer lastId = (Integer) last.getPropertyValue(idField);
+        Cursor next = new Cursor(request.sortKey(), request.descending(), lastKey != null ? lastKey.toString() : null, lastId);
+        return new Page<>(items, encode(next));
+    }
+
+    // e.g. "chineseName|a|42|v善意的競爭" in Base64 (URL-safe)
+    public static String encode(Cursor cursor) {
+        String text = cursor.sortKey() + "|" + (cursor.descending() ? "d" : "a") + "|" + cursor.lastId() + "|"
+            + (cursor.lastKey() == null ? "n" : "v" + cursor.lastKey());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = text.split("\\|", 4); // The key itself may contain "|"
+            if (parts.length != 4 || parts[3].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String lastKey = parts[3].charAt(0) == 'v' ? parts[3].substring(1) : null;
+            return new Cursor(parts[0], parts[1].equals("d"), lastKey, Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) { // Also thrown for invalid Base64 and numbers
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parseKey(Class<?> type, String text) {
+        if (type == LocalDateTime.class) {
+            return (Comparable<Object>) (Comparable<?>) LocalDateTime.parse(text);
+        }
+        if (type == Integer.class || type == int.class) {
+            return (Comparable<Object>) (Comparable<?>) Integer.valueOf(text);
+        }
+        return (Comparable<Object>) (Comparable<?>) text;
+    }
+}
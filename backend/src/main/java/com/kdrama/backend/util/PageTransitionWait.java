@@ -0,0 +1,148 @@
+package com.kdrama.backend.util;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+// Waits of TWOTTPlatformScraper.java, based on what happens on the page instead of fixed sleeps
+// A click on "next page" / "more" counts as done as soon as one of these is seen:
+// - the first title element of the previous page is gone (stale), e.g. friDay影音 loads a new page
+// - the number of title elements changed, e.g. Hami Video appends the next works to the list
+// - the text of the first title changed, e.g. LINE TV re-renders the same elements
+// Then the readiness selector has to be present and the network quiet.
+// Only when none of the signals is seen, it sleeps for a while (doubled every time, up to a cap) and checks again.
+// One instance is used for one platform run (the backoff is not shared)
+
+public class PageTransitionWait {
+
+    // Title elements of a page before a click
+    public record PageState(WebElement firstTitle, String firstTitleText, int titleCount) {}
+
+    private static final Duration SIGNAL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(200);
+    private static final Duration NETWORK_IDLE_TIMEOUT = Duration.ofSeconds(5);
+    private static final long NETWORK_QUIET_MILLIS = 500;
+
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+    private static final int MAX_FALLBACK_ATTEMPTS = 3;
+
+    private final WebDriver driver;
+    private final String titleSelector;
+    private final String readinessSelector;
+    private int inconclusiveTransitions = 0;
+
+    // readinessSelector: element that is only there once a page is ready; the title selector if null
+    public PageTransitionWait(WebDriver driver, String titleSelector, String readinessSelector) {
+        this.driver = driver;
+        this.titleSelector = titleSelector;
+        this.readinessSelector = readinessSelector != null ? readinessSelector : titleSelector;
+    }
+
+    public PageState capture() {
+        List<WebElement> titles = driver.findElements(By.cssSelector(titleSelector));
+        if (titles.isEmpty()) {
+            return new PageState(null, "", 0);
+        }
+        return new PageState(titles.get(0), textOf(titles.get(0)), titles.size());
+    }
+
+    public void awaitReady() {
+        newWait(SIGNAL_TIMEOUT).until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(readinessSelector)));
+        awaitNetworkIdle();
+    }
+
+    // false if no change of the page was seen at all (e.g. the click did nothing on the last page)
+    public boolean awaitTransition(PageState before) {
+        for (int attempt = 0; attempt <= MAX_FALLBACK_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                // Inconclusive: the page may still be loading slowly, so sleep before checking again
+                long backoffMillis = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (inconclusiveTransitions + attempt - 1));
+                System.out.println("No page transition seen yet, waiting " + backoffMillis + " ms");
+                sleep(backoffMillis);
+            }
+
+            try {
+                newWait(attempt == 0 ? SIGNAL_TIMEOUT : POLLING_INTERVAL.multipliedBy(5)).until(d -> hasChanged(before));
+            } catch (TimeoutException e) {
+                continue; // Check again after the fallback delay
+            }
+            inconclusiveTransitions = 0;
+            awaitReady();
+            return true;
+        }
+        inconclusiveTransitions = Math.min(inconclusiveTransitions + 1, MAX_FALLBACK_ATTEMPTS);
+        return false;
+    }
+
+    private boolean hasChanged(PageState before) {
+        if (before.firstTitle() != null && isStale(before.firstTitle())) {
+            return true;
+        }
+        PageState now = capture();
+        return now.titleCount() != before.titleCount()
+            || (now.titleCount() > 0 && !now.firstTitleText().equals(before.firstTitleText()));
+    }
+
+    // The document is loaded and no new resource (XHR, image, script...) was requested for NETWORK_QUIET_MILLIS
+    private void awaitNetworkIdle() {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.currentTimeMillis() + NETWORK_IDLE_TIMEOUT.toMillis();
+        long lastCount = -1;
+        long quietSince = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() < deadline) {
+            Object state = js.executeScript("return [document.readyState, performance.getEntriesByType('resource').length];");
+            if (state instanceof List<?> values && values.size() == 2 && "complete".equals(values.get(0))) {
+                long count = ((Number) values.get(1)).longValue();
+                if (count != lastCount) {
+                    lastCount = count;
+                    quietSince = System.currentTimeMillis();
+                } else if (System.currentTimeMillis() - quietSince >= NETWORK_QUIET_MILLIS) {
+                    return;
+                }
+            }
+            sleep(POLLING_INTERVAL.toMillis());
+        }
+        // Pages with polling / streaming requests never become idle; the readiness selector was found already
+    }
+
+    private WebDriverWait newWait(Duration timeout) {
+        WebDriverWait wait = new WebDriverWait(driver, timeout, POLLING_INTERVAL);
+        wait.ignoring(StaleElementReferenceException.class);
+        return wait;
+    }
+
+    private boolean isStale(WebElement element) {
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
+    }
+
+    private String textOf(WebElement element) {
+        try {
+            return element.getText().trim();
+        } catch (StaleElementReferenceException e) {
+            return "";
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.kdrama.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Fuzzy matching of work titles against a scraped OTT platform catalog (used by TWOTTTitleIndex.java)
+// - Every catalog title is normalized once: full-width -> half-width, Simplified -> Traditional Chinese,
+//   season suffixes in one form ("第2季", "第二季", "Season 2" -> "s2"), spaces and punctuation removed
+// - Normalized titles are indexed by their character bigrams, so a lookup only scores titles that share a bigram
+// - Score: Dice coefficient of the bigram sets (1.0 = same normalized title), halved if the seasons are different,
+//   so that e.g. "機智醫生生活 第2季" is never accepted as "機智醫生生活" (season 1),
+//   and halved if the other numbers of the titles are different, so that a sequel ("屍速列車2") or another year
+//   ("請回答1997") is never accepted either; short titles differ by few bigrams, so their scores stay high otherwise
+// The matcher is never changed after it is built, so it can be used by many threads at the same time
+
+public class TitleMatcher {
+
+    public record Match(String title, double score) {}
+
+    private static final Pattern CHINESE_SEASON = Pattern.compile("第\\s*([0-9一二三四五六七八九十]+)\\s*季");
+    private static final Pattern ENGLISH_SEASON = Pattern.compile("season\\s*([0-9]+)");
+    private static final String CHINESE_DIGITS = "零一二三四五六七八九";
+    private static final Pattern NUMBER = Pattern.compile("[0-9]+");
+
+    private final String[] titles;
+    private final int[] gramCounts; // Number of distinct bigrams of every title
+    private final int[] seasons;
+    private final String[] numbers;
+    private final Map<String, Integer> idByKey = new HashMap<>(); // Normalized title -> id
+    private final Map<String, int[]> postings = new HashMap<>(); // bigram -> ids of the titles containing it
+
+    public TitleMatcher(Collection<String> catalogTitles) {
+        titles = catalogTitles.toArray(String[]::new);
+        gramCounts = new int[titles.length];
+        seasons = new int[titles.length];
+        numbers = new String[titles.length];
+
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+        for (int id = 0; id < titles.length; id++) {
+            Key key = toKey(titles[id]);
+            idByKey.putIfAbsent(key.text(), id);
+            seasons[id] = key.season();
+            numbers[id] = key.numbers();
+
+            Set<String> grams = bigrams(key.text());
+            gramCounts[id] = grams.size();
+            for (String gram : grams) {
+                postingLists.computeIfAbsent(gram, g -> new ArrayList<>()).add(id);
+            }
+        }
+        for (Map.Entry<String, List<Integer>> entry : postingLists.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    public int size() {
+        return titles.length;
+    }
+
+    // Best candidates first; at most "limit" of them
+    public List<Match> findCandidates(String query, int limit) {
+        Key key = toKey(query);
+        Set<String> queryGrams = bigrams(key.text());
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Number of shared bigrams of every title that shares at least one
+        int[] shared = new int[titles.length];
+        int[] touched = new int[titles.length];
+        int touchedCount = 0;
+        for (String gram : queryGrams) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                if (shared[id]++ == 0) {
+                    touched[touchedCount++] = id;
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(touchedCount);
+        for (int i = 0; i < touchedCount; i++) {
+            int id = touched[i];
+            double score = 2.0 * shared[id] / (queryGrams.size() + gramCounts[id]);
+            if (seasons[id] != key.season()) {
+                score /= 2;
+            }
+            if (!numbers[id].equals(key.numbers())) {
+                score /= 2;
+            }
+            matches.add(new Match(titles[id], score));
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    // The best candidate, only if it is similar enough to be accepted without a manual / LLM check
+    public Optional<Match> findBestMatch(String query, double threshold) {
+        // Same normalized title: no need to score anything
+        Integer exactId = idByKey.get(normalize(query));
+        if (exactId != null) {
+            return Optional.of(new Match(titles[exactId], 1.0));
+        }
+
+        List<Match> candidates = findCandidates(query, 1);
+        if (candidates.isEmpty() || candidates.get(0).score() < threshold) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(0));
+    }
+
+    public static String normalize(String title) {
+        return toKey(title).text();
+    }
+
+    // season: 1 if the title has no season suffix; numbers: the numbers of the title other than its season, e.g. "2,1988"
+    private record Key(String text, int season, String numbers) {}
+
+    private static Key toKey(String title) {
+        if (title == null) {
+            return new Key("", 1, "");
+        }
+
+        // NFKC turns full-width letters, digits and punctuation into half-width ones
+        String text = Normalizer.normalize(title, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = ChineseCharacterConverter.toTraditional(text);
+        String numbers = numbersOf(ENGLISH_SEASON.matcher(CHINESE_SEASON.matcher(text).replaceAll(" ")).replaceAll(" "));
+
+        int[] season = {1};
+        text = replaceSeason(CHINESE_SEASON, text, season);
+        text = replaceSeason(ENGLISH_SEASON, text, season);
+
+        StringBuilder key = new StringBuilder(text.length());
+        text.codePoints()
+            .filter(Character::isLetterOrDigit)
+            .forEach(key::appendCodePoint);
+        return new Key(key.toString(), season[0], numbers);
+    }
+
+    private static String numbersOf(String text) {
+        StringBuilder numbers = new StringBuilder();
+        Matcher matcher = NUMBER.matcher(text);
+        while (matcher.find()) {
+            if (!numbers.isEmpty()) {
+                numbers.append(',');
+            }
+            numbers.append(matcher.group().replaceFirst("^0+(?=[0-9])", "")); // "01" = "1"
+        }
+        return numbers.toString();
+    }
+
+    // Season 1 is usually listed without a suffix, so it is dropped; other seasons become " s{n} "
+    private static String replaceSeason(Pattern pattern, String text, int[] foundSeason) {
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            int season = parseSeasonNumber(matcher.group(1));
+            foundSeason[0] = season;
+            matcher.appendReplacement(result, season == 1 ? " " : " s" + season + " ");
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    // "2" -> 2, "二" -> 2, "十二" -> 12, "二十" -> 20
+    private static int parseSeasonNumber(String number) {
+        if (number.chars().allMatch(Character::isDigit)) {
+            return Integer.parseInt(number);
+        }
+        int tenIndex = number.indexOf('十');
+        if (tenIndex < 0) {
+            return CHINESE_DIGITS.indexOf(number.charAt(0));
+        }
+        int tens = tenIndex == 0 ? 1 : CHINESE_DIGITS.indexOf(number.charAt(0));
+        int units = tenIndex == number.length() - 1 ? 0 : CHINESE_DIGITS.indexOf(number.charAt(tenIndex + 1));
+        return tens * 10 + units;
+    }
+
+    // Distinct character bigrams; a one-character title is its own gram
+    private static Set<String> bigrams(String key) {
+        int[] codePoints = key.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(key);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(Arrays.copyOfRange(codePoints, i, i + 2), 0, 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,73 @@
+package com.kdrama.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// Hash of the parts of a consolidated TMDB document that end up in a Drama / Movie
+// (refer to TmdbDramaClient.fetchDramaDocument() and TmdbMovieClient.fetchMovieDocument())
+// If the hash is the same as the stored one, nothing relevant changed on TMDB since the last refresh
+// Fields that do not affect the saved work (e.g. popularity, vote counts, episode overviews) are left out on purpose
+
+public class TmdbContentHash {
+    private static final List<String> DRAMA_FIELDS = List.of(
+        "name", "genres", "networks", "number_of_seasons", "next_episode_to_air", "content_ratings", "credits", "watch/providers");
+
+    private static final List<String> MOVIE_FIELDS = List.of(
+        "title", "genres", "runtime", "release_date", "poster_path", "release_dates", "credits", "watch/providers");
+
+    private static final List<String> EPISODE_FIELDS = List.of("episode_number", "air_date", "runtime", "episode_type");
+
+    public static String ofDrama(JsonNode dramaDocument, Integer seasonNumber) {
+        if (dramaDocument == null || dramaDocument.isNull()) {
+            return null;
+        }
+
+        MessageDigest digest = newDigest();
+        for (String field : DRAMA_FIELDS) {
+            update(digest, field, dramaDocument.path(field));
+        }
+
+        JsonNode seasonNode = dramaDocument.path("season/" + seasonNumber);
+        update(digest, "season.air_date", seasonNode.path("air_date"));
+        update(digest, "season.poster_path", seasonNode.path("poster_path"));
+        for (JsonNode episode : seasonNode.path("episodes")) {
+            for (String field : EPISODE_FIELDS) {
+                update(digest, "episode." + field, episode.path(field));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String ofMovie(JsonNode movieDocument) {
+        if (movieDocument == null || movieDocument.isNull()) {
+            return null;
+        }
+
+        MessageDigest digest = newDigest();
+        for (String field : MOVIE_FIELDS) {
+            update(digest, field, movieDocument.path(field));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // The field name is hashed too, so that a value moving from one field to another changes the hash
+    private static void update(MessageDigest digest, String field, JsonNode value) {
+        digest.update(field.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '=');
+        digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
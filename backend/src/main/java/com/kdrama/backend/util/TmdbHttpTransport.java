@@ -0,0 +1,61 @@
+package com.kdrama.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+// Shared HTTP transport for every TMDB call (used by JsonNodeRequest.java)
+// One pooled HttpClient is reused, so connections and TLS sessions to api.themoviedb.org are kept alive,
+// and concurrent calls are multiplexed over HTTP/2 instead of opening a new HttpURLConnection each time
+
+public class TmdbHttpTransport {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(20);
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2) // falls back to HTTP/1.1 keep-alive if the server does not support HTTP/2
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    // Blocking call: the body is returned as a stream so that it can be parsed without copying it into a String
+    public static HttpResponse<InputStream> send(String requestUrl) throws IOException, InterruptedException {
+        return send(requestUrl, Map.of());
+    }
+
+    // extraHeaders: e.g. If-None-Match / If-Modified-Since when revalidating a cached response
+    public static HttpResponse<InputStream> send(String requestUrl, Map<String, String> extraHeaders) throws IOException, InterruptedException {
+        return httpClient.send(buildRequest(requestUrl, extraHeaders), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    // Non-blocking call: several TMDB requests can be in flight at the same time over the shared connection
+    public static CompletableFuture<HttpResponse<InputStream>> sendAsync(String requestUrl) {
+        return sendAsync(requestUrl, Map.of());
+    }
+
+    public static CompletableFuture<HttpResponse<InputStream>> sendAsync(String requestUrl, Map<String, String> extraHeaders) {
+        return httpClient.sendAsync(buildRequest(requestUrl, extraHeaders), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    // 429 (Too Many Requests) and 5xx are temporary; other error codes (e.g. 401, 404) will not change on retry
+    public static boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private static HttpRequest buildRequest(String requestUrl, Map<String, String> extraHeaders) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        extraHeaders.forEach(builder::header);
+        return builder.build();
+    }
+}
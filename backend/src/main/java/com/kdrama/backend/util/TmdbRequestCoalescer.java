@@ -0,0 +1,174 @@
+package com.kdrama.backend.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+
+// Single-flight layer for TMDB calls (used by JsonNodeRequest.java)
+// Concurrent requests for the same normalized URL share one in-flight call and its parsed JsonNode,
+// and a finished result stays shareable for a short window so that back-to-back calls for the same resource
+// (e.g. isDramaFromTmdbByTmdbId() then getTotalSeasonsByTmdbId() for /tv/{id}) are served without another request
+// Saved calls are counted per endpoint and published as the metric "tmdb.request.coalesced" (tag: endpoint)
+// Every caller gets its own JsonNode: the leader the parsed one, the others a deep copy of a snapshot taken before the
+// leader got it, so a caller changing its node (e.g. converting fields) never changes the node of another
+
+public class TmdbRequestCoalescer {
+    private static final long SHARE_WINDOW_MILLIS = 3000;
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+");
+
+    private static final Map<String, SharedCall> calls = new ConcurrentHashMap<>();
+
+    // e.g. "/3/tv/{id}/season/{id}" -> number of TMDB calls saved
+    private static final Map<String, LongAdder> savedCallsByEndpoint = new ConcurrentHashMap<>();
+
+    private static class SharedCall {
+        final CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        volatile long completedAtMillis = -1;
+
+        boolean isShareable(long now) {
+            if (future.isCompletedExceptionally()) {
+                return false;
+            }
+            return completedAtMillis < 0 || now - completedAtMillis < SHARE_WINDOW_MILLIS;
+        }
+    }
+
+    private record Claim(String key, SharedCall call, boolean leader) {}
+
+    // Blocking version: the first caller (leader) runs the loader on its own thread, the others wait for its result
+    public static JsonNode execute(String requestUrl, Set<String> fieldsToConvert, Callable<JsonNode> loader) throws Exception {
+        Claim claim = claim(requestUrl, fieldsToConvert);
+
+        if (!claim.leader()) {
+            try {
+                return copyOf(claim.call().future.get());
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            }
+        }
+
+        try {
+            JsonNode result = loader.call();
+            complete(claim, copyOf(result), null);
+            return result;
+        } catch (Exception e) {
+            complete(claim, null, e);
+            throw e;
+        }
+    }
+
+    public static CompletableFuture<JsonNode> executeAsync(String requestUrl, Set<String> fieldsToConvert, Supplier<CompletableFuture<JsonNode>> loader) {
+        Claim claim = claim(requestUrl, fieldsToConvert);
+
+        if (!claim.leader()) {
+            return claim.call().future.thenApply(TmdbRequestCoalescer::copyOf);
+        }
+        try {
+            // The returned stage completes after the snapshot is shared, so the leader's own stages cannot change it first
+            return loader.get().whenComplete((result, error) -> complete(claim, error == null ? copyOf(result) : null, error));
+        } catch (RuntimeException e) {
+            complete(claim, null, e);
+            return claim.call().future;
+        }
+    }
+
+    private static JsonNode copyOf(JsonNode node) {
+        return node == null ? null : node.deepCopy();
+    }
+
+    public static Map<String, Long> getSavedCallsByEndpoint() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        savedCallsByEndpoint.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return snapshot;
+    }
+
+    private static Claim claim(String requestUrl, Set<String> fieldsToConvert) {
+        // The converted fields change the parsed result, so they are part of the key
+        String key = TmdbResponseCache.normalizeUrl(requestUrl) + "#" + new TreeSet<>(fieldsToConvert);
+        SharedCall[] created = new SharedCall[1];
+        long now = System.currentTimeMillis();
+
+        SharedCall call = calls.compute(key, (k, existing) -> {
+            if (existing != null && existing.isShareable(now)) {
+                return existing;
+            }
+            created[0] = new SharedCall();
+            return created[0];
+        });
+
+        boolean leader = call == created[0];
+        if (!leader) {
+            savedCallsByEndpoint.computeIfAbsent(endpointOf(key), TmdbRequestCoalescer::registerCounter).increment();
+        }
+        return new Claim(key, call, leader);
+    }
+
+    // Spring Boot adds its MeterRegistry to the global registry, so the counter shows up in /actuator/metrics
+    private static LongAdder registerCounter(String endpoint) {
+        LongAdder counter = new LongAdder();
+        FunctionCounter.builder("tmdb.request.coalesced", counter, LongAdder::sum)
+            .tag("endpoint", endpoint)
+            .register(Metrics.globalRegistry);
+        return counter;
+    }
+
+    private static void complete(Claim claim, JsonNode result, Throwable error) {
+        SharedCall call = claim.call();
+        if (error != null) {
+            // Failures are not shared with later callers
+            calls.remove(claim.key(), call);
+            call.future.completeExceptionally(error);
+            return;
+        }
+
+        call.completedAtMillis = System.currentTimeMillis();
+        call.future.complete(result);
+
+        // Forget the result after the share window
+        CompletableFuture.delayedExecutor(SHARE_WINDOW_MILLIS, TimeUnit.MILLISECONDS)
+            .execute(() -> calls.remove(claim.key(), call));
+    }
+
+    // https://api.themoviedb.org/3/tv/123/season/2?language=zh-TW#[name] -> /3/tv/{id}/season/{id}
+    private static String endpointOf(String key) {
+        String path = key;
+        int queryStart = path.indexOf('?');
+        if (queryStart < 0) {
+            queryStart = path.indexOf('#');
+        }
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        int hostEnd = path.indexOf('/', path.indexOf("//") + 2);
+        if (hostEnd > 0) {
+            path = path.substring(hostEnd);
+        }
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private static Exception unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof Exception) {
+            return (Exception) error;
+        }
+        return new RuntimeException(error);
+    }
+}
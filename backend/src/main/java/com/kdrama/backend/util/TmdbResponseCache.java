@@ -0,0 +1,315 @@
+package com.kdrama.backend.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// Local on-disk cache of raw TMDB responses (used by JsonNodeRequest.java)
+// - Key: SHA-256 of the request URL without api_key, so the cache survives API key changes and never stores the key
+// - Value: gzip-compressed body + ETag / Last-Modified + fetch time + TTL, one file per URL
+// - Fresh entries are served without any HTTP call; stale entries are revalidated with If-None-Match / If-Modified-Since
+// - TTLs depend on the endpoint, e.g. long for /person and finished seasons, short for seasons that are still airing
+// - prune() (scheduled by TmdbCacheConfig.java) deletes entries not written for a long time, then the least recently
+//   written ones until the cache fits in its maximum size
+
+public class TmdbResponseCache {
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Pattern API_KEY_PARAM = Pattern.compile("([?&])api_key=[^&]*&?");
+
+    private static final Duration SHORT_TTL = Duration.ofHours(6);
+    private static final Duration DAY_TTL = Duration.ofDays(1);
+    private static final Duration MEDIUM_TTL = Duration.ofDays(3);
+    private static final Duration LONG_TTL = Duration.ofDays(7);
+
+    // A season whose last episode aired more than this many days ago is considered finished
+    private static final int FINISHED_SEASON_DAYS = 30;
+
+    // Temporary files of write() older than this were left by a crash
+    private static final Duration TEMP_FILE_AGE = Duration.ofHours(1);
+
+    private static volatile Path directory = Path.of("cache", "tmdb");
+    private static volatile boolean enabled = true;
+
+    private static final Stats stats = new Stats();
+
+    public record Entry(String url, String etag, String lastModified, long fetchedAtMillis, long ttlMillis, byte[] body) {
+        public boolean isFresh() {
+            return System.currentTimeMillis() < fetchedAtMillis + ttlMillis;
+        }
+
+        public boolean canRevalidate() {
+            return !etag.isEmpty() || !lastModified.isEmpty();
+        }
+    }
+
+    // Hit/miss counters, exposed as metrics by TmdbCacheConfig.java
+    public static class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder revalidated = new LongAdder();
+        private final LongAdder stores = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        public long getHits() { return hits.sum(); }
+        public long getMisses() { return misses.sum(); }
+        public long getRevalidated() { return revalidated.sum(); }
+        public long getStores() { return stores.sum(); }
+        public long getEvictions() { return evictions.sum(); }
+    }
+
+    public static void configure(Path cacheDirectory, boolean cacheEnabled) {
+        directory = cacheDirectory;
+        enabled = cacheEnabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static Stats getStats() {
+        return stats;
+    }
+
+    // e.g. https://api.themoviedb.org/3/tv/1?api_key=XXX&language=zh-TW -> https://api.themoviedb.org/3/tv/1?language=zh-TW
+    public static String normalizeUrl(String requestUrl) {
+        String normalized = API_KEY_PARAM.matcher(requestUrl).replaceFirst("$1");
+        if (normalized.endsWith("?") || normalized.endsWith("&")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    // Returns the cached entry (fresh or stale), or null if there is none
+    public static Entry lookup(String requestUrl) {
+        if (!enabled) {
+            return null;
+        }
+
+        Path file = fileFor(normalizeUrl(requestUrl));
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            String url = in.readUTF();
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            long fetchedAtMillis = in.readLong();
+            long ttlMillis = in.readLong();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(url, etag, lastModified, fetchedAtMillis, ttlMillis, body);
+        } catch (IOException e) {
+            System.err.println("Failed to read TMDB cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Conditional request headers for a stale entry
+    public static Map<String, String> conditionalHeaders(Entry entry) {
+        Map<String, String> headers = new HashMap<>();
+        if (entry == null) {
+            return headers;
+        }
+        if (!entry.etag().isEmpty()) {
+            headers.put("If-None-Match", entry.etag());
+        }
+        if (!entry.lastModified().isEmpty()) {
+            headers.put("If-Modified-Since", entry.lastModified());
+        }
+        return headers;
+    }
+
+    public static void recordHit() {
+        stats.hits.increment();
+    }
+
+    public static void recordMiss() {
+        stats.misses.increment();
+    }
+
+    // 304 Not Modified: keep the body and start a new TTL period
+    public static void markRevalidated(Entry entry) {
+        stats.revalidated.increment();
+        write(new Entry(entry.url(), entry.etag(), entry.lastModified(), System.currentTimeMillis(), entry.ttlMillis(), entry.body()));
+    }
+
+    // parsedNode is only used to choose the TTL (e.g. whether a season is still airing)
+    public static void store(String requestUrl, String etag, String lastModified, byte[] body, JsonNode parsedNode) {
+        if (!enabled) {
+            return;
+        }
+        String url = normalizeUrl(requestUrl);
+        Duration ttl = ttlFor(url, parsedNode);
+        write(new Entry(url, etag == null ? "" : etag, lastModified == null ? "" : lastModified, System.currentTimeMillis(), ttl.toMillis(), body));
+        stats.stores.increment();
+    }
+
+    // Deletes the entries not written (stored or revalidated) for maxAge, then the least recently written ones
+    // until the cache takes at most maxBytes; returns the number of deleted entries
+    // maxAge should be longer than LONG_TTL, so that expired entries are still kept for a while to be revalidated
+    public static int prune(long maxBytes, Duration maxAge) {
+        Path cacheDirectory = directory;
+        if (!Files.isDirectory(cacheDirectory)) {
+            return 0;
+        }
+
+        record CachedFile(Path path, long size, long writtenAtMillis) {}
+        List<CachedFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(cacheDirectory, 2)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    files.add(new CachedFile(path, Files.size(path), Files.getLastModifiedTime(path).toMillis()));
+                } catch (IOException e) {
+                    // Deleted or replaced meanwhile
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Failed to list the TMDB cache " + cacheDirectory + ": " + e.getMessage());
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long totalBytes = files.stream().mapToLong(CachedFile::size).sum();
+        files.sort(Comparator.comparingLong(CachedFile::writtenAtMillis)); // Least recently written first
+
+        int deleted = 0;
+        for (CachedFile file : files) {
+            boolean leftTempFile = file.path().toString().endsWith(".tmp") && file.writtenAtMillis() < now - TEMP_FILE_AGE.toMillis();
+            boolean tooOld = file.writtenAtMillis() < now - maxAge.toMillis();
+            if (!leftTempFile && !tooOld && totalBytes <= maxBytes) {
+                continue;
+            }
+            try {
+                // A lookup reading the file at the same time still reads it, or sees a miss
+                if (Files.deleteIfExists(file.path())) {
+                    deleted++;
+                }
+                totalBytes -= file.size();
+            } catch (IOException e) {
+                System.err.println("Failed to delete TMDB cache entry " + file.path() + ": " + e.getMessage());
+            }
+        }
+        stats.evictions.add(deleted);
+        return deleted;
+    }
+
+    static Duration ttlFor(String url, JsonNode node) {
+        String path = url.contains("?") ? url.substring(0, url.indexOf('?')) : url;
+
+        if (path.contains("/search/")) {
+            return DAY_TTL;
+        }
+        if (path.contains("/person/")) {
+            // Filmographies grow with new works; profile information rarely changes
+            return path.endsWith("/combined_credits") ? DAY_TTL : LONG_TTL;
+        }
+        if (path.endsWith("/content_ratings") || path.endsWith("/release_dates")) {
+            return LONG_TTL;
+        }
+        if (path.endsWith("/watch/providers")) {
+            return DAY_TTL;
+        }
+        if (path.endsWith("/credits")) {
+            return MEDIUM_TTL;
+        }
+        if (path.contains("/season/")) {
+            return isFinishedSeason(node) ? LONG_TTL : SHORT_TTL;
+        }
+        if (path.contains("/tv/")) {
+            // Ongoing shows change episode counts and status every week
+            boolean ended = node != null && !node.path("in_production").asBoolean(true);
+            return ended ? MEDIUM_TTL : SHORT_TTL;
+        }
+        if (path.contains("/movie/")) {
+            return MEDIUM_TTL;
+        }
+        return DAY_TTL;
+    }
+
+    private static boolean isFinishedSeason(JsonNode seasonNode) {
+        if (seasonNode == null) {
+            return false;
+        }
+        JsonNode episodes = seasonNode.path("episodes");
+        if (!episodes.isArray() || episodes.size() == 0) {
+            return false;
+        }
+        String lastAirDate = episodes.get(episodes.size() - 1).path("air_date").asText("");
+        try {
+            return LocalDate.parse(lastAirDate).isBefore(LocalDate.now().minusDays(FINISHED_SEASON_DAYS));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void write(Entry entry) {
+        Path file = fileFor(entry.url());
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream fileOut = Files.newOutputStream(tempFile);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(fileOut)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(entry.url());
+                out.writeUTF(entry.etag());
+                out.writeUTF(entry.lastModified());
+                out.writeLong(entry.fetchedAtMillis());
+                out.writeLong(entry.ttlMillis());
+                out.writeInt(entry.body().length);
+                out.write(entry.body());
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write TMDB cache entry for " + entry.url() + ": " + e.getMessage());
+        }
+    }
+
+    // cache/tmdb/ab/abcdef....bin.gz (two-character subfolders keep directories small)
+    private static Path fileFor(String normalizedUrl) {
+        String hash = sha256(normalizedUrl);
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ".bin.gz");
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
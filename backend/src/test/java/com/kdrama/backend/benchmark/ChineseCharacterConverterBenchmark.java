@@ -0,0 +1,85 @@
+package com.kdrama.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.houbb.opencc4j.util.ZhConverterUtil;
+import com.kdrama.backend.util.ChineseCharacterConverter;
+
+// Compares ChineseCharacterConverter (trie + bounded cache) with calling ZhConverterUtil directly
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=com.kdrama.backend.benchmark.ChineseCharacterConverterBenchmark -Dexec.classpathScope=test
+// (or run main() from the IDE)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChineseCharacterConverterBenchmark {
+
+    // Typical values seen again and again during bulk actor imports
+    private static final String[] SHORT_NAMES = {
+        "剧情", "喜剧", "悬疑", "犯罪", "动作冒险", "爱情", "家庭", "奇幻&科幻", "真人秀",
+        "李敏镐", "孔晓振", "朴宝英", "宋康昊", "金秀贤", "全智贤", "导演", "编剧"
+    };
+
+    private static final String[] ASCII_VALUES = {
+        "tvN", "JTBC", "Netflix", "Disney+", "Scripted", "Director", "/abc123.jpg", "2025-01-01"
+    };
+
+    private static final String OVERVIEW = "这是一部讲述在韩国首尔的两个年轻人因为一次偶然的相遇而改变彼此命运的电视剧，"
+            + "故事围绕着家庭、友情与爱情展开，剧中人物在面对现实压力时如何坚持自己的梦想，"
+            + "并在一次又一次的挫折中学会成长与理解。";
+
+    @Benchmark
+    public void shortNamesConverter(Blackhole bh) {
+        for (String name : SHORT_NAMES) {
+            bh.consume(ChineseCharacterConverter.toTraditional(name));
+        }
+    }
+
+    @Benchmark
+    public void shortNamesZhConverterUtil(Blackhole bh) {
+        for (String name : SHORT_NAMES) {
+            bh.consume(ZhConverterUtil.toTraditional(name));
+        }
+    }
+
+    @Benchmark
+    public void asciiConverter(Blackhole bh) {
+        for (String value : ASCII_VALUES) {
+            bh.consume(ChineseCharacterConverter.toTraditional(value));
+        }
+    }
+
+    @Benchmark
+    public void asciiZhConverterUtil(Blackhole bh) {
+        for (String value : ASCII_VALUES) {
+            bh.consume(ZhConverterUtil.toTraditional(value));
+        }
+    }
+
+    @Benchmark
+    public String overviewConverter() {
+        return ChineseCharacterConverter.toTraditional(OVERVIEW);
+    }
+
+    @Benchmark
+    public String overviewZhConverterUtil() {
+        return ZhConverterUtil.toTraditional(OVERVIEW);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChineseCharacterConverterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.kdrama.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.KRReleaseSchedule;
+import com.kdrama.backend.service.CatalogSearchService;
+import com.kdrama.backend.util.FacetBitmapIndex;
+
+// Searches of FacetBitmapIndex over 100k generated dramas, with the counts of every facet value
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=com.kdrama.backend.benchmark.FacetBitmapIndexBenchmark -Dexec.classpathScope=test
+// (or run main() from the IDE)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacetBitmapIndexBenchmark {
+
+    private static final int WORK_COUNT = 100_000;
+
+    private static final String[] GENRES = {
+        "愛情", "喜劇", "劇情", "懸疑", "犯罪", "動作", "奇幻", "歷史", "醫療", "律政",
+        "校園", "家庭", "驚悚", "恐怖", "科幻", "職場", "音樂", "運動", "古裝", "青春"
+    };
+    private static final String[] NETWORKS = {
+        "KBS2", "KBS1", "MBC", "SBS", "tvN", "JTBC", "OCN", "ENA", "TV Chosun", "MBN",
+        "Channel A", "TVING", "Wavve", "Disney+", "Netflix", "Coupang Play"
+    };
+    private static final String[] PLATFORMS = {
+        "Netflix", "Disney Plus", "friDay影音", "Hami Video", "MyVideo", "LINE TV", "KKTV", "CATCHPLAY+", "Prime Video", "Apple TV+"
+    };
+
+    private FacetBitmapIndex index;
+
+    private List<List<FacetBitmapIndex.Term>> oneFacet;
+    private List<List<FacetBitmapIndex.Term>> twoFacets;
+    private List<List<FacetBitmapIndex.Term>> orAndCombination;
+
+    @Setup
+    public void setup() {
+        index = new FacetBitmapIndex(CatalogSearchService.DRAMA_FACETS);
+        Random random = new Random(42);
+        for (int id = 1; id <= WORK_COUNT; id++) {
+            Map<String, List<String>> values = new HashMap<>();
+            values.put("genre", pick(GENRES, 1 + random.nextInt(3), random));
+            values.put("network", pick(NETWORKS, 1, random));
+            values.put("status", List.of(DramaStatus.values()[random.nextInt(DramaStatus.values().length)].name()));
+            values.put("krReleaseSchedule", List.of(KRReleaseSchedule.values()[random.nextInt(KRReleaseSchedule.values().length)].name()));
+            values.put("platform", pick(PLATFORMS, random.nextInt(4), random));
+            index.put(id, values);
+        }
+        index.optimize();
+
+        oneFacet = List.of(List.of(term("genre", "愛情")));
+        twoFacets = List.of(List.of(term("genre", "懸疑")), List.of(term("platform", "Netflix")));
+        orAndCombination = List.of(
+            List.of(term("genre", "愛情"), term("genre", "喜劇")),
+            List.of(term("platform", "Netflix"), term("platform", "friDay影音"), term("platform", "LINE TV")),
+            List.of(term("status", DramaStatus.COMPLETED.name())),
+            List.of(term("network", "tvN"), term("network", "JTBC")));
+    }
+
+    @Benchmark
+    public FacetBitmapIndex.Result noFilter() {
+        return index.search(List.of(), 0, 24);
+    }
+
+    @Benchmark
+    public FacetBitmapIndex.Result oneFacet() {
+        return index.search(oneFacet, 0, 24);
+    }
+
+    @Benchmark
+    public FacetBitmapIndex.Result twoFacets() {
+        return index.search(twoFacets, 0, 24);
+    }
+
+    @Benchmark
+    public FacetBitmapIndex.Result orAndCombination() {
+        return index.search(orAndCombination, 0, 24);
+    }
+
+    @Benchmark
+    public FacetBitmapIndex.Result deepPage() {
+        return index.search(twoFacets, 5_000, 24);
+    }
+
+    private static FacetBitmapIndex.Term term(String facet, String value) {
+        return new FacetBitmapIndex.Term(facet, value);
+    }
+
+    private static List<String> pick(String[] values, int count, Random random) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(values[random.nextInt(values.length)]);
+        }
+        return picked;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FacetBitmapIndexBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.kdrama.backend.benchmark;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kdrama.backend.config.JacksonConfig;
+import com.kdrama.backend.config.JsonResponseWriters;
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.enums.KRReleaseSchedule;
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.util.DisplayNameEnumSerializer;
+
+// Writing the /api/dramas/findAll response for a generated catalog:
+// - perRequestMapper: as the controllers did before, a copied ObjectMapper with a new module and a JsonNode tree per request
+// - sharedWriter: the shared writer of JsonResponseWriters.java, straight to the output stream
+// Add "-prof gc" (or .addProfiler(GCProfiler.class)) to see the allocated bytes per response
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=com.kdrama.backend.benchmark.ResponseWriterBenchmark -Dexec.classpathScope=test
+// (or run main() from the IDE)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseWriterBenchmark {
+
+    @Param({"50", "2000"})
+    private int dramaCount;
+
+    private ObjectMapper objectMapper;
+    private JsonResponseWriters jsonWriters;
+    private List<Drama> dramas;
+
+    @Setup
+    public void setup() {
+        objectMapper = new JacksonConfig().objectMapper();
+        jsonWriters = new JsonResponseWriters(objectMapper);
+
+        Random random = new Random(42);
+        dramas = new ArrayList<>(dramaCount);
+        for (int i = 1; i <= dramaCount; i++) {
+            Drama drama = new Drama();
+            drama.setDramaId(i);
+            drama.setTmdbId(100000 + i);
+            drama.setSeasonNumber(1 + random.nextInt(2));
+            drama.setChineseName("善意的競爭 " + i);
+            drama.setEnglishName("Friendly Rivalry " + i);
+            drama.setKoreanName("선의의 경쟁 " + i);
+            drama.setTotalNumOfEps(16);
+            drama.setCurrentEpNo(random.nextInt(17));
+            drama.setEstRuntimePerEp("60-70 mins");
+            drama.setKrAgeRestriction(15);
+            drama.setReleaseYear(String.valueOf(2015 + random.nextInt(11)));
+            drama.setStatus(DramaStatus.values()[random.nextInt(DramaStatus.values().length)]);
+            drama.setKrReleaseSchedule(KRReleaseSchedule.values()[random.nextInt(KRReleaseSchedule.values().length)]);
+            drama.setGenres(List.of("愛情", "喜劇"));
+            drama.setNetworks(List.of("tvN"));
+            Map<String, String> platforms = new HashMap<>();
+            platforms.put("Netflix", "https://www.netflix.com/tw/title/" + i);
+            platforms.put("friDay影音", "https://video.friday.tw/drama/detail/" + i);
+            drama.setDramaTwPlatformMap(platforms);
+            drama.setLeadActors(List.of("李惠利", "鄭秀彬"));
+            drama.setDirectorNames(List.of("金太熙"));
+            drama.setScriptwriterNames(List.of("韓在雅"));
+            drama.setMainPosterUrl("https://image.tmdb.org/t/p/w500/poster" + i + ".jpg");
+            drama.setIntroPageUrl("https://www.themoviedb.org/tv/" + (100000 + i));
+            drama.setLastUpdatedByApi(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(i));
+            dramas.add(drama);
+        }
+    }
+
+    @Benchmark
+    public void perRequestMapper() throws Exception {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Enum.class, new DisplayNameEnumSerializer(true));
+
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.registerModule(module);
+
+        JsonNode jsonNode = mapper.valueToTree(dramas);
+        mapper.writeValue(OutputStream.nullOutputStream(), jsonNode);
+    }
+
+    @Benchmark
+    public void sharedWriter() throws Exception {
+        jsonWriters.writer(true).writeValue(OutputStream.nullOutputStream(), dramas);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ResponseWriterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.kdrama.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.kdrama.backend.service.TWOTTPlatformRegistryService;
+import com.kdrama.backend.util.CacheFileUtil;
+import com.kdrama.backend.util.ChineseCharacterConverter;
+import com.kdrama.backend.util.TitleMatcher;
+
+// Lookups of TitleMatcher over the scraped catalogs of friDay影音, Hami Video, MyVideo and LINE TV (cache/*.json)
+// Run it from the backend folder after a scrape run, so that the cache files are found;
+// without them, a generated catalog of about the same size is used instead
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=com.kdrama.backend.benchmark.TitleMatcherBenchmark -Dexec.classpathScope=test
+// (or run main() from the IDE)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TitleMatcherBenchmark {
+
+    private static final int GENERATED_CATALOG_SIZE = 6000;
+    private static final int QUERY_COUNT = 256;
+
+    private List<String> catalog;
+    private TitleMatcher matcher;
+    private String[] exactQueries;
+    private String[] variantQueries;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        Set<String> titles = new LinkedHashSet<>();
+        for (String platformName : new TWOTTPlatformRegistryService().getPlatforms().keySet()) {
+            titles.addAll(CacheFileUtil.loadCacheFromFile(platformName).keySet());
+        }
+        if (titles.isEmpty()) {
+            System.out.println("No scraped catalogs found in cache/, using " + GENERATED_CATALOG_SIZE + " generated titles");
+            titles.addAll(generateCatalog(GENERATED_CATALOG_SIZE));
+        }
+        catalog = new ArrayList<>(titles);
+        matcher = new TitleMatcher(catalog);
+
+        // Titles as they are, and the same titles as TMDB / other platforms may write them
+        Random random = new Random(42);
+        exactQueries = new String[QUERY_COUNT];
+        variantQueries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String title = catalog.get(random.nextInt(catalog.size()));
+            exactQueries[i] = title;
+            variantQueries[i] = switch (i % 3) {
+                case 0 -> ChineseCharacterConverter.toSimplified(title);
+                case 1 -> title.replace(" ", "　") + "：";
+                default -> title + " - 第1季";
+            };
+        }
+    }
+
+    @Benchmark
+    public TitleMatcher buildIndex() {
+        return new TitleMatcher(catalog);
+    }
+
+    @Benchmark
+    public Object exactTitle() {
+        return matcher.findBestMatch(exactQueries[next++ & (QUERY_COUNT - 1)], 0.8);
+    }
+
+    @Benchmark
+    public Object variantTitle() {
+        return matcher.findBestMatch(variantQueries[next++ & (QUERY_COUNT - 1)], 0.8);
+    }
+
+    @Benchmark
+    public void topFiveCandidates(Blackhole bh) {
+        bh.consume(matcher.findCandidates(variantQueries[next++ & (QUERY_COUNT - 1)], 5));
+    }
+
+    private static List<String> generateCatalog(int size) {
+        String characters = "愛情的秘密王后醫生律師警察偵探天空海洋城市夜晚春夏秋冬星月花雨風雪少年少女家族時間記憶";
+        Random random = new Random(7);
+        List<String> titles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder title = new StringBuilder();
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                title.append(characters.charAt(random.nextInt(characters.length())));
+            }
+            if (i % 10 == 0) {
+                title.append(" 第").append(2 + random.nextInt(3)).append("季");
+            }
+            titles.add(title.toString());
+        }
+        return titles;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TitleMatcherBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.kdrama.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.repository.DramaRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// The persistence unit starts with the second-level and query cache of CatalogCacheConfig.java (on an embedded H2 database),
+// and reads of a committed drama are served from it
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false",
+    "catalog.cache.enabled=true"
+})
+@Import(CatalogCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Every repository call commits, so the cache is filled
+class CatalogCacheConfigTest {
+
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void servesCommittedDramasFromTheCache() {
+        Drama drama = new Drama();
+        drama.setTmdbId(100001);
+        drama.setSeasonNumber(1);
+        drama.setChineseName("善意的競爭");
+        drama.setGenres(List.of("愛情"));
+        Integer dramaId = dramaRepository.save(drama).getDramaId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.isStatisticsEnabled());
+        statistics.clear();
+
+        dramaRepository.findById(dramaId);
+        dramaRepository.findById(dramaId);
+        dramaRepository.findByChineseName("善意的競爭");
+        dramaRepository.findByChineseName("善意的競爭");
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0, "No second-level cache hit");
+        assertTrue(statistics.getQueryCacheHitCount() > 0, "No query cache hit");
+    }
+}
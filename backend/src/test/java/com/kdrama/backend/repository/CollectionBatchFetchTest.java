@@ -0,0 +1,123 @@
+package com.kdrama.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.kdrama.backend.enums.DramaStatus;
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.model.Movie;
+
+// Number of queries that load a list of dramas / movies with all their collections, as the findAll endpoints serialize them
+// Fails when the collections are loaded one drama / movie at a time again (N+1, refer to the @BatchSize of Drama.java and Movie.java)
+// Runs against an embedded H2 database instead of MySQL
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.show-sql=false"
+})
+class CollectionBatchFetchTest {
+
+    private static final int WORK_COUNT = 30;
+
+    // The list query + one query per collection
+    private static final int DRAMA_QUERIES = 1 + 6;
+    private static final int MOVIE_QUERIES = 1 + 5;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= WORK_COUNT; i++) {
+            testEntityManager.persist(drama(i));
+            testEntityManager.persist(movie(i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loadsDramaCollectionsInConstantQueries() {
+        List<Drama> dramas = dramaRepository.findAll();
+        int elementCount = 0;
+        for (Drama drama : dramas) {
+            elementCount += drama.getGenres().size() + drama.getNetworks().size() + drama.getDramaTwPlatformMap().size()
+                + drama.getLeadActors().size() + drama.getDirectorNames().size() + drama.getScriptwriterNames().size();
+        }
+
+        assertEquals(WORK_COUNT, dramas.size());
+        assertEquals(WORK_COUNT * 9, elementCount);
+        assertTrue(statistics.getPrepareStatementCount() <= DRAMA_QUERIES,
+            "Expected at most " + DRAMA_QUERIES + " queries, was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void loadsMovieCollectionsInConstantQueries() {
+        List<Movie> movies = movieRepository.findAll();
+        int elementCount = 0;
+        for (Movie movie : movies) {
+            elementCount += movie.getGenres().size() + movie.getMovieTwPlatformMap().size()
+                + movie.getLeadActors().size() + movie.getDirectorNames().size() + movie.getScriptwriterNames().size();
+        }
+
+        assertEquals(WORK_COUNT, movies.size());
+        assertEquals(WORK_COUNT * 8, elementCount);
+        assertTrue(statistics.getPrepareStatementCount() <= MOVIE_QUERIES,
+            "Expected at most " + MOVIE_QUERIES + " queries, was " + statistics.getPrepareStatementCount());
+    }
+
+    // 9 collection elements
+    private static Drama drama(int i) {
+        Drama drama = new Drama();
+        drama.setTmdbId(100000 + i);
+        drama.setSeasonNumber(1);
+        drama.setChineseName("善意的競爭 " + i);
+        drama.setStatus(DramaStatus.values()[i % DramaStatus.values().length]);
+        drama.setGenres(List.of("愛情", "喜劇"));
+        drama.setNetworks(List.of("tvN"));
+        drama.setDramaTwPlatformMap(Map.of("Netflix", "https://www.netflix.com/tw/title/" + i,
+            "friDay影音", "https://video.friday.tw/drama/detail/" + i));
+        drama.setLeadActors(List.of("李惠利", "鄭秀彬"));
+        drama.setDirectorNames(List.of("金太熙"));
+        drama.setScriptwriterNames(List.of("韓在雅"));
+        return drama;
+    }
+
+    // 8 collection elements
+    private static Movie movie(int i) {
+        Movie movie = new Movie();
+        movie.setTmdbId(200000 + i);
+        movie.setChineseName("機密同盟 " + i);
+        movie.setGenres(List.of("動作", "喜劇"));
+        movie.setMovieTwPlatformMap(Map.of("Netflix", "https://www.netflix.com/tw/title/" + i,
+            "Hami Video", "https://hamivideo.hinet.net/product/" + i));
+        movie.setLeadActors(List.of("玄彬", "柳海真"));
+        movie.setDirectorNames(List.of("李碩勳"));
+        movie.setScriptwriterNames(List.of("尹濟均"));
+        return movie;
+    }
+}
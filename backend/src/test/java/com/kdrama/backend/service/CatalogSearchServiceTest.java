@@ -0,0 +1,79 @@
+package com.kdrama.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.util.FacetBitmapIndex.Term;
+
+// Changes committed while CatalogSearchService fills its index (from another thread) are applied after the works read
+// by the fill, so the index ends up with the changes instead of the works as they were read
+
+class CatalogSearchServiceTest {
+
+    private final DramaRepository dramaRepository = mock(DramaRepository.class);
+
+    private final CatalogSearchService searchService = new CatalogSearchService(mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "dramaRepository", dramaRepository);
+    }
+
+    @Test
+    void appliesChangesCommittedDuringTheLoadAfterIt() {
+        Drama edited = drama(1, "喜劇");
+        Drama added = drama(3, "愛情");
+        Map<Integer, Drama> stored = Map.of(1, edited, 3, added);
+
+        when(dramaRepository.findAll()).thenAnswer(invocation -> {
+            // Read before the changes below were committed
+            List<Drama> readByTheLoad = List.of(drama(1, "愛情"), drama(2, "愛情"));
+            Thread otherRequest = new Thread(() -> {
+                searchService.indexDrama(edited);
+                searchService.removeDrama(2);
+                searchService.indexDrama(added);
+            });
+            otherRequest.start();
+            otherRequest.join();
+            return readByTheLoad;
+        });
+        when(dramaRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Drama> dramas = new ArrayList<>();
+            for (Integer id : invocation.<Iterable<Integer>>getArgument(0)) {
+                dramas.add(stored.get(id));
+            }
+            return dramas;
+        });
+
+        CatalogSearchService.SearchResult<Drama> romance = searchService.searchDramas(List.of(List.of(new Term("genre", "愛情"))), 0, 10);
+        assertEquals(List.of(added), romance.items());
+        assertEquals(Map.of("愛情", 1, "喜劇", 1), romance.counts().get("genre"));
+
+        CatalogSearchService.SearchResult<Drama> comedy = searchService.searchDramas(List.of(List.of(new Term("genre", "喜劇"))), 0, 10);
+        assertEquals(List.of(edited), comedy.items());
+
+        // Applied right away once the index is filled
+        searchService.removeDrama(1);
+        assertEquals(0, searchService.searchDramas(List.of(List.of(new Term("genre", "喜劇"))), 0, 10).total());
+    }
+
+    private static Drama drama(int dramaId, String genre) {
+        Drama drama = new Drama();
+        drama.setDramaId(dramaId);
+        drama.setGenres(List.of(genre));
+        return drama;
+    }
+}
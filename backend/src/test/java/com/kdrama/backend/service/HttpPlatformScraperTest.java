@@ -0,0 +1,152 @@
+package com.kdrama.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kdrama.backend.config.TWOTTPlatformConfig;
+import com.kdrama.backend.enums.ScraperBackend;
+import com.sun.net.httpserver.HttpServer;
+
+// HttpPlatformScraper against saved platform pages (src/test/resources/ott-fixtures) replayed by a local server
+
+class HttpPlatformScraperTest {
+
+    // Request path (with query) -> saved page
+    private static final Map<String, String> FIXTURES = Map.of(
+        "/drama/filter/all/all/all/korea", "friday-drama-page1.html",
+        "/drama/filter/all/all/all/korea?page=2", "friday-drama-page2.html",
+        "/movie/genre?page=1", "myvideo-movie-page1.html",
+        "/movie/genre?page=2", "myvideo-movie-page2.html",
+        "/movie/genre?page=3", "myvideo-movie-page3.html"
+    );
+
+    private HttpServer fixtureServer;
+    private String baseUrl;
+
+    private final HttpPlatformScraper scraper = new HttpPlatformScraper(Duration.ZERO);
+
+    @BeforeEach
+    void startFixtureServer() throws IOException {
+        fixtureServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        fixtureServer.createContext("/", exchange -> {
+            String fixture = FIXTURES.get(exchange.getRequestURI().toString());
+            try (OutputStream body = exchange.getResponseBody()) {
+                if (fixture == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                try (InputStream page = getClass().getResourceAsStream("/ott-fixtures/" + fixture)) {
+                    byte[] content = page.readAllBytes();
+                    exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+                    exchange.sendResponseHeaders(200, content.length);
+                    body.write(content);
+                }
+            }
+        });
+        fixtureServer.start();
+        baseUrl = "http://127.0.0.1:" + fixtureServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopFixtureServer() {
+        fixtureServer.stop(0);
+    }
+
+    @Test
+    void followsNextPageLinks() throws Exception {
+        TWOTTPlatformConfig config = new TWOTTPlatformConfig("friDay影音-drama", baseUrl + "/drama/filter/all/all/all/korea",
+            ".filmcase-name-bottom h4", ".filmcase a", "https://video.friday.tw", ".common-paging > a.active ~ a.arrowBtn", false);
+        config.setScraperBackend(ScraperBackend.HTTP);
+
+        HttpPlatformScraper.Result result = scraper.scrape(config);
+
+        assertEquals(2, result.pageCount());
+        assertTrue(result.complete());
+        assertEquals(List.of("苦盡柑來遇見你", "善意的競爭", "黑暗榮耀", "機智醫生生活"), List.copyOf(result.works().keySet()));
+        assertEquals("https://video.friday.tw/detail/1004", result.works().get("機智醫生生活"));
+    }
+
+    @Test
+    void paginatesWithUrlTemplate() throws Exception {
+        TWOTTPlatformConfig config = new TWOTTPlatformConfig("MyVideo-movie", baseUrl + "/movie/genre?page=1",
+            "#vidioListUl li h3 a", "#vidioListUl li h3 a", "https://www.myvideo.net.tw", ".more", false);
+        config.setScraperBackend(ScraperBackend.HTTP);
+        config.setPageUrlTemplate(baseUrl + "/movie/genre?page={page}");
+
+        HttpPlatformScraper.Result result = scraper.scrape(config);
+
+        // The third page has no works, so it is the last one
+        assertEquals(3, result.pageCount());
+        assertTrue(result.complete());
+        assertEquals(List.of("寄生上流", "屍速列車", "哈爾濱"), List.copyOf(result.works().keySet()));
+        assertEquals("https://www.myvideo.net.tw/details/0/2003", result.works().get("哈爾濱"));
+    }
+
+    @Test
+    void stopsWhenPageIsKnown() throws Exception {
+        TWOTTPlatformConfig config = new TWOTTPlatformConfig("MyVideo-movie", baseUrl + "/movie/genre?page=1",
+            "#vidioListUl li h3 a", "#vidioListUl li h3 a", "https://www.myvideo.net.tw", ".more", false);
+        config.setPageUrlTemplate(baseUrl + "/movie/genre?page={page}");
+
+        // As in an incremental run where every title of the first page is cached already
+        HttpPlatformScraper.Result result = scraper.scrape(config, pageTitles -> true);
+
+        assertEquals(1, result.pageCount());
+        assertTrue(result.complete());
+    }
+
+    @Test
+    void isIncompleteWhenNextPageNeedsScript() throws Exception {
+        // Without a template, the ".more" button (href="javascript:void(0)") is the only way to the next page
+        TWOTTPlatformConfig config = new TWOTTPlatformConfig("MyVideo-movie", baseUrl + "/movie/genre?page=1",
+            "#vidioListUl li h3 a", "#vidioListUl li h3 a", "https://www.myvideo.net.tw", ".more", false);
+        config.setScraperBackend(ScraperBackend.HTTP);
+
+        HttpPlatformScraper.Result result = scraper.scrape(config);
+
+        assertEquals(1, result.pageCount());
+        assertFalse(result.complete());
+    }
+
+    @Test
+    void isIncompleteWithoutAnyWork() throws Exception {
+        // A page without works from the start, e.g. an error or consent page sent with HTTP 200
+        TWOTTPlatformConfig emptyConfig = new TWOTTPlatformConfig("MyVideo-movie", baseUrl + "/movie/genre?page=3",
+            "#vidioListUl li h3 a", "#vidioListUl li h3 a", "https://www.myvideo.net.tw", ".more", false);
+        emptyConfig.setPageUrlTemplate(baseUrl + "/movie/genre?page={page}");
+
+        HttpPlatformScraper.Result emptyResult = scraper.scrape(emptyConfig);
+
+        assertEquals(1, emptyResult.pageCount());
+        assertTrue(emptyResult.works().isEmpty());
+        assertFalse(emptyResult.complete());
+
+        // Selectors that no longer match the page
+        TWOTTPlatformConfig changedConfig = new TWOTTPlatformConfig("friDay影音-drama", baseUrl + "/drama/filter/all/all/all/korea",
+            ".filmcase-title h4", ".filmcase a", "https://video.friday.tw", ".common-paging > a.active ~ a.arrowBtn", false);
+
+        assertFalse(scraper.scrape(changedConfig).complete());
+    }
+
+    @Test
+    void failsOnErrorStatus() {
+        TWOTTPlatformConfig config = new TWOTTPlatformConfig("missing", baseUrl + "/not-found",
+            "h4", "a", "", ".next", false);
+
+        assertThrows(IllegalStateException.class, () -> scraper.scrape(config));
+    }
+}
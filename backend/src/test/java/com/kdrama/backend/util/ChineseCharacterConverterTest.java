@@ -0,0 +1,84 @@
+package com.kdrama.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.houbb.opencc4j.util.ZhConverterUtil;
+
+// ChineseCharacterConverter gives the same output as ZhConverterUtil (which it replaced) on titles, names and biographies
+// as they come from TMDB and the LLM
+
+class ChineseCharacterConverterTest {
+
+    private static final List<String> SIMPLIFIED = List.of(
+        // Titles
+        "黑暗荣耀", "请回答1988", "机智医生生活", "苦尽柑来遇见你", "鱿鱼游戏", "爱的迫降", "梨泰院Class",
+        "来自星星的你", "太阳的后裔", "孤单又灿烂的神：鬼怪", "我的大叔", "非常律师禹英禑", "二十五，二十一", "顶楼",
+        "天空之城", "海岸村恰恰恰", "社内相亲", "善意的竞争", "寄生虫", "釜山行", "哈尔滨", "与神同行：罪与罚", "熔炉",
+        // Genres, networks and names
+        "爱情", "喜剧", "悬疑", "动作与冒险", "科幻与奇幻", "战争与政治", "纪录", "家庭",
+        "宋慧乔", "孔刘", "李知恩", "金秀贤", "朴叙俊", "全智贤", "申惠善", "李秉宪", "金恩淑", "申元浩",
+        // Biographies and overviews
+        "宋慧乔，1981年11月22日出生于韩国大邱，韩国女演员。1996年参加校服模特大赛获得第一名而出道，"
+            + "2003年凭借《浪漫满屋》获得KBS演技大赏最佳女主角奖。",
+        "孔刘，本名孔智哲，1979年7月10日出生于韩国釜山，毕业于庆熙大学戏剧电影系，韩国男演员。"
+            + "2016年主演的电影《釜山行》在全球上映，同年主演的电视剧《孤单又灿烂的神：鬼怪》创下有线台收视纪录。",
+        "李知恩（IU），1993年5月16日出生于韩国首尔特别市，韩国女歌手、词曲作者、演员。"
+            + "2008年发行首张迷你专辑《Lost and Found》正式出道，2018年主演电视剧《我的大叔》。",
+        "文东恩在高中时遭受了严重的校园暴力，她花了十几年的时间准备复仇，成为了加害者孩子的班主任，"
+            + "并一步步把所有人都拉进了她设计好的游戏里。",
+        "四位性格迥异的医生从医学院时期就是好友，如今在同一家医院工作，他们在生死之间经历着平凡又特别的日常。"
+    );
+
+    private static final List<String> TRADITIONAL = List.of(
+        "黑暗榮耀", "請回答1988", "機智醫生生活", "苦盡柑來遇見你", "魷魚遊戲", "愛的迫降", "來自星星的你",
+        "太陽的後裔", "孤單又燦爛的神：鬼怪", "非常律師禹英禑", "善意的競爭", "與神同行：罪與罰",
+        "愛情", "喜劇", "懸疑", "動作冒險", "科幻奇幻", "宋慧喬", "金秀賢", "朴敘俊", "全智賢", "李秉憲",
+        "宋慧喬，1981年11月22日出生於韓國大邱，韓國女演員。1996年參加校服模特大賽獲得第一名而出道。",
+        "孔劉，本名孔智哲，1979年7月10日出生於韓國釜山，畢業於慶熙大學戲劇電影系，韓國男演員。",
+        "文東恩在高中時遭受了嚴重的校園暴力，她花了十幾年的時間準備復仇，成為了加害者孩子的班導師。"
+    );
+
+    @Test
+    void toTraditionalMatchesZhConverterUtil() {
+        for (String text : SIMPLIFIED) {
+            assertEquals(ZhConverterUtil.toTraditional(text), ChineseCharacterConverter.toTraditional(text), text);
+        }
+    }
+
+    @Test
+    void toSimplifiedMatchesZhConverterUtil() {
+        for (String text : TRADITIONAL) {
+            assertEquals(ZhConverterUtil.toSimple(text), ChineseCharacterConverter.toSimplified(text), text);
+        }
+    }
+
+    @Test
+    void returnsAsciiAsIs() {
+        String title = "Lost and Found";
+        assertSame(title, ChineseCharacterConverter.toTraditional(title));
+        assertEquals(null, ChineseCharacterConverter.toSimplified(null));
+    }
+
+    @Test
+    void convertsTheSameFromManyThreads() throws Exception {
+        List<Future<List<String>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> SIMPLIFIED.stream().map(ChineseCharacterConverter::toTraditional).toList()));
+            }
+        }
+        List<String> expected = SIMPLIFIED.stream().map(ZhConverterUtil::toTraditional).toList();
+        for (Future<List<String>> future : futures) {
+            assertEquals(expected, future.get());
+        }
+    }
+}
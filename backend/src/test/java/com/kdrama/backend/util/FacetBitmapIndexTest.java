@@ -0,0 +1,108 @@
+package com.kdrama.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kdrama.backend.util.FacetBitmapIndex.Term;
+
+// FacetBitmapIndex returns the works matching every clause (each an OR of its terms), counts the values of a facet without
+// the clauses on that facet, and stays right after works are replaced or removed
+
+class FacetBitmapIndexTest {
+
+    private final FacetBitmapIndex index = new FacetBitmapIndex(List.of("genre", "platform", "status"));
+
+    @BeforeEach
+    void setUp() {
+        index.put(1, Map.of("genre", List.of("愛情", "喜劇"), "platform", List.of("Netflix"), "status", List.of("COMPLETED")));
+        index.put(2, Map.of("genre", List.of("愛情"), "platform", List.of("friDay影音"), "status", List.of("ONGOING")));
+        index.put(3, Map.of("genre", List.of("喜劇"), "platform", List.of("Netflix"), "status", List.of("ONGOING")));
+        index.put(4, Map.of("genre", List.of("懸疑"), "platform", List.of("Netflix", "friDay影音"), "status", List.of("COMPLETED")));
+        index.put(5, Map.of("genre", List.of("愛情"), "status", List.of("COMPLETED"))); // On no platform
+    }
+
+    @Test
+    void matchesEveryClauseAndAnyTermOfAClause() {
+        // (genre:愛情 OR genre:喜劇) AND platform:Netflix
+        FacetBitmapIndex.Result result = index.search(List.of(
+            List.of(new Term("genre", "愛情"), new Term("genre", "喜劇")),
+            List.of(new Term("platform", "Netflix"))), 0, 10);
+        assertEquals(2, result.total());
+        assertArrayEquals(new int[] {1, 3}, result.ids());
+
+        // A clause may mix facets: genre:懸疑 OR platform:friDay影音
+        assertArrayEquals(new int[] {2, 4},
+            index.search(List.of(List.of(new Term("genre", "懸疑"), new Term("platform", "friDay影音"))), 0, 10).ids());
+
+        // A value no work has matches nothing, no clause matches everything
+        assertEquals(0, index.search(List.of(List.of(new Term("genre", "動作"))), 0, 10).total());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, index.search(List.of(), 0, 10).ids());
+
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of(List.of(new Term("network", "tvN"))), 0, 10));
+    }
+
+    @Test
+    void countsAFacetWithoutItsOwnClause() {
+        FacetBitmapIndex.Result result = index.search(List.of(
+            List.of(new Term("genre", "愛情"), new Term("genre", "喜劇")),
+            List.of(new Term("platform", "Netflix"))), 0, 10);
+
+        // Genres of the works on Netflix (1, 3, 4), platforms of the romance or comedy works (1, 2, 3, 5)
+        assertEquals(Map.of("愛情", 1, "喜劇", 2, "懸疑", 1), result.counts().get("genre"));
+        assertEquals(Map.of("Netflix", 2, "friDay影音", 1), result.counts().get("platform"));
+        // No clause on the status: the matching works (1, 3) only
+        assertEquals(Map.of("COMPLETED", 1, "ONGOING", 1), result.counts().get("status"));
+    }
+
+    @Test
+    void replacesTheValuesOfAWork() {
+        index.put(1, Map.of("genre", List.of("懸疑"), "platform", List.of("friDay影音"))); // No status any more
+
+        assertArrayEquals(new int[] {2, 5}, index.search(List.of(List.of(new Term("genre", "愛情"))), 0, 10).ids());
+        assertArrayEquals(new int[] {3}, index.search(List.of(List.of(new Term("genre", "喜劇"))), 0, 10).ids());
+        assertArrayEquals(new int[] {1, 4}, index.search(List.of(List.of(new Term("genre", "懸疑"))), 0, 10).ids());
+
+        FacetBitmapIndex.Result all = index.search(List.of(), 0, 10);
+        assertEquals(5, all.total());
+        assertEquals(Map.of("COMPLETED", 2, "ONGOING", 2), all.counts().get("status"));
+        assertEquals(Map.of("Netflix", 2, "friDay影音", 3), all.counts().get("platform"));
+    }
+
+    @Test
+    void removesAWorkFromEveryValue() {
+        index.remove(4);
+        index.remove(99); // Not in the index
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new int[] {1, 3}, index.search(List.of(List.of(new Term("platform", "Netflix"))), 0, 10).ids());
+        assertEquals(0, index.search(List.of(List.of(new Term("genre", "懸疑"))), 0, 10).total());
+
+        FacetBitmapIndex.Result all = index.search(List.of(), 0, 10);
+        assertEquals(Map.of("愛情", 3, "喜劇", 2), all.counts().get("genre")); // Values without works are left out
+        assertEquals(Map.of("Netflix", 2, "friDay影音", 1), all.counts().get("platform"));
+    }
+
+    @Test
+    void returnsAPageOfTheMatchingIds() {
+        FacetBitmapIndex sparse = new FacetBitmapIndex(List.of("genre"));
+        int[] ids = {3, 8, 42, 57, 100, 65536, 70000};
+        for (int id : ids) {
+            sparse.put(id, Map.of("genre", List.of("愛情")));
+        }
+        List<List<Term>> romance = List.of(List.of(new Term("genre", "愛情")));
+
+        assertArrayEquals(new int[] {3, 8, 42}, sparse.search(romance, 0, 3).ids());
+        assertArrayEquals(new int[] {57, 100, 65536}, sparse.search(romance, 3, 3).ids());
+        assertArrayEquals(new int[] {70000}, sparse.search(romance, 6, 3).ids());
+        assertArrayEquals(new int[0], sparse.search(romance, 7, 3).ids());
+        assertArrayEquals(new int[0], sparse.search(romance, 0, 0).ids());
+        assertEquals(ids.length, sparse.search(romance, 6, 3).total()); // The total of every page is the same
+    }
+}
@@ -0,0 +1,151 @@
+package com.kdrama.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kdrama.backend.model.Drama;
+import com.kdrama.backend.repository.DramaRepository;
+import com.kdrama.backend.service.DramaService;
+
+// Paging through every drama with DramaService.findDramas (as /api/dramas/findAll does) returns each of them exactly once,
+// in the order of the sort, also when the sort key is NULL or the same for several dramas;
+// runs against an embedded H2 database instead of MySQL
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false"
+})
+class KeysetPaginationTest {
+
+    private static final DramaService.DramaFilter NO_FILTER = new DramaService.DramaFilter(null, null, null, null, null, null);
+
+    // NULL and repeated keys on purpose
+    private static final String[] RELEASE_YEARS = {
+        null, "2020", "2021", null, "2020", "2020", "2022", null, "2021", "2020", "2022", null, "2019"
+    };
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DramaRepository dramaRepository;
+
+    private final List<Drama> dramas = new ArrayList<>();
+
+    private final DramaService dramaService = new DramaService(null, null); // findDramas only needs the repository
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dramaService, "dramaRepository", dramaRepository);
+        for (int i = 0; i < RELEASE_YEARS.length; i++) {
+            Drama drama = new Drama();
+            drama.setTmdbId(300000 + i);
+            drama.setSeasonNumber(1);
+            drama.setChineseName(i % 4 == 0 ? null : "善意的競爭 " + (i % 3)); // NULL and repeated as well
+            drama.setReleaseYear(RELEASE_YEARS[i]);
+            drama.setLastUpdatedByApi(i % 5 == 0 ? null : LocalDateTime.of(2025, 3, 1 + i % 3, 12, 30, 15));
+            dramas.add(testEntityManager.persist(drama));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void pagesThroughNullAndRepeatedKeysWithoutGapsOrDuplicates() {
+        for (String sortKey : List.of("releaseYear", "chineseName", "lastUpdatedByApi", "id")) {
+            for (String order : List.of("asc", "desc")) {
+                List<Integer> expected = expectedOrder(sortKey, order.equals("desc"));
+                for (int size : new int[] {1, 2, 5, RELEASE_YEARS.length, KeysetPagination.MAX_PAGE_SIZE}) {
+                    assertEquals(expected, pageThrough(NO_FILTER, sortKey, order, size), sortKey + " " + order + ", " + size + " per page");
+                }
+            }
+        }
+    }
+
+    @Test
+    void pagesThroughFilteredDramas() {
+        DramaService.DramaFilter releasedIn2020 = new DramaService.DramaFilter(null, null, null, null, "2020", null);
+        List<Integer> expected = expectedOrder("chineseName", false).stream()
+            .filter(dramaId -> dramas.stream().anyMatch(drama -> drama.getDramaId().equals(dramaId) && "2020".equals(drama.getReleaseYear())))
+            .toList();
+        assertEquals(4, expected.size());
+        assertEquals(expected, pageThrough(releasedIn2020, "chineseName", "asc", 1));
+
+        // Not a year, e.g. a LIKE wildcard
+        DramaService.DramaFilter wildcard = new DramaService.DramaFilter(null, null, null, null, "_", null);
+        assertThrows(IllegalArgumentException.class, () -> pageThrough(wildcard, "chineseName", "asc", 5));
+    }
+
+    @Test
+    void encodesAndDecodesCursors() {
+        KeysetPagination.Cursor withKey = new KeysetPagination.Cursor("chineseName", true, "善意的競爭|第2季", 42);
+        assertEquals(withKey, KeysetPagination.decode(KeysetPagination.encode(withKey)));
+
+        KeysetPagination.Cursor withoutKey = new KeysetPagination.Cursor("releaseYear", false, null, 7);
+        assertEquals(withoutKey, KeysetPagination.decode(KeysetPagination.encode(withoutKey)));
+
+        String cursor = KeysetPagination.encode(withKey);
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "Not URL-safe: " + cursor);
+    }
+
+    @Test
+    void rejectsInvalidCursors() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decode("not a cursor!"));
+        String missingParts = Base64.getUrlEncoder().withoutPadding().encodeToString("releaseYear|a|1".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decode(missingParts));
+        String invalidId = Base64.getUrlEncoder().withoutPadding().encodeToString("releaseYear|a|x|v2020".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPagination.decode(invalidId));
+
+        // A cursor of another sort order
+        String descendingCursor = KeysetPagination.encode(new KeysetPagination.Cursor("releaseYear", true, "2020", 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetPagination.request("releaseYear", "asc", 5, descendingCursor, "dramaId", DramaService.SORT_KEYS));
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetPagination.request("chineseName", "desc", 5, descendingCursor, "dramaId", DramaService.SORT_KEYS));
+    }
+
+    private List<Integer> pageThrough(DramaService.DramaFilter filter, String sortKey, String order, int size) {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPagination.Request request = KeysetPagination.request(sortKey, order, size, cursor, "dramaId", DramaService.SORT_KEYS);
+            KeysetPagination.Page<Drama> page = dramaService.findDramas(filter, request);
+            page.items().forEach(drama -> ids.add(drama.getDramaId()));
+            cursor = page.nextCursor();
+            assertTrue(++pages <= RELEASE_YEARS.length + 1, "Paging does not end");
+        } while (cursor != null);
+        return ids;
+    }
+
+    // NULL keys first in ascending order (as MySQL and H2 sort them), the id breaks ties; descending is the exact reverse
+    private List<Integer> expectedOrder(String sortKey, boolean descending) {
+        Function<Drama, Comparable<?>> keyOf = switch (sortKey) {
+            case "releaseYear" -> Drama::getReleaseYear;
+            case "chineseName" -> Drama::getChineseName;
+            case "lastUpdatedByApi" -> Drama::getLastUpdatedByApi;
+            default -> Drama::getDramaId;
+        };
+        @SuppressWarnings("unchecked")
+        Comparator<Drama> byKey = Comparator.comparing(drama -> (Comparable<Object>) keyOf.apply(drama),
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<Drama> order = byKey.thenComparing(Drama::getDramaId);
+        return dramas.stream().sorted(descending ? order.reversed() : order).map(Drama::getDramaId).toList();
+    }
+}
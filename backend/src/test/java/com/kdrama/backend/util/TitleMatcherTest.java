@@ -0,0 +1,37 @@
+package com.kdrama.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// TitleMatcher accepts the same title written differently, but never a sequel, another season or another year
+
+class TitleMatcherTest {
+
+    private static final double THRESHOLD = 0.8; // Default of ott.title-match.threshold
+
+    private final TitleMatcher matcher = new TitleMatcher(List.of("屍速列車", "機智醫生生活", "請回答1988", "苦盡柑來遇見你"));
+
+    @Test
+    void acceptsTheSameTitle() {
+        assertEquals("機智醫生生活", matcher.findBestMatch("机智医生生活", THRESHOLD).orElseThrow().title());
+        assertEquals("請回答1988", matcher.findBestMatch("請回答 1988！", THRESHOLD).orElseThrow().title());
+        assertEquals("苦盡柑來遇見你", matcher.findBestMatch("苦盡柑來遇見妳", THRESHOLD).orElseThrow().title());
+    }
+
+    @Test
+    void rejectsSequelsOfShortTitles() {
+        // 6 of 7 bigrams are shared (0.857) without the number check
+        assertTrue(matcher.findBestMatch("屍速列車2", THRESHOLD).isEmpty());
+        assertTrue(matcher.findBestMatch("請回答1997", THRESHOLD).isEmpty());
+    }
+
+    @Test
+    void rejectsOtherSeasons() {
+        assertTrue(matcher.findBestMatch("機智醫生生活 第2季", THRESHOLD).isEmpty());
+        assertTrue(matcher.findBestMatch("機智醫生生活 Season 2", THRESHOLD).isEmpty());
+    }
+}